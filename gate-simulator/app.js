@@ -4,6 +4,7 @@ const uuidv4 = require('uuid/v4');
 
 const data = JSON.parse(fs.readFileSync('data.json', 'UTF-8'));
 console.log(data);
+const statuses = new Map(data.map(o => [o.number, o.status]));
 
 const server = express();
 server.use(express.json());
@@ -12,15 +13,15 @@ server.post(['/payment', '/credit'], (req, res) => {
   console.log(`Incoming request: ${req.path} ${JSON.stringify(req.body)}`);
   const {body: {number}} = req;
 
-  const [item] = data.filter(o => o.number === number);
-  if (item === undefined) {
+  const status = statuses.get(number);
+  if (status === undefined) {
     res.status(400).end();
     return;
   }
 
   res.send({
     id: uuidv4(),
-    status: item.status,
+    status,
   });
 });
 
@@ -0,0 +1,82 @@
+package ru.netology.project.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataUtilsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CyrillicText {
+        @Param({"Иван", "Александра Щербакова", "Съешь же ещё этих мягких французских булок"})
+        public String text;
+    }
+
+    @Benchmark
+    public String transliterate(CyrillicText cyrillic) {
+        return DataUtils.transliterate(cyrillic.text);
+    }
+
+    @Benchmark
+    public String nameCardholder() {
+        return DataUtils.getNameCardholder();
+    }
+
+    @Benchmark
+    public String nameCardholderWithCyrillic() {
+        return DataUtils.getNameCardholderWithCyrillic();
+    }
+
+    @Benchmark
+    public String incorrectCardHolder() {
+        return DataUtils.getIncorrectCardHolder();
+    }
+
+    @Benchmark
+    public String longName() {
+        return DataUtils.getLongName();
+    }
+
+    @Benchmark
+    public String shotName() {
+        return DataUtils.getShotName();
+    }
+
+    @Benchmark
+    public String specSymbol() {
+        return DataUtils.getSpecSymbol();
+    }
+
+    @Benchmark
+    public String threeDigits() {
+        return DataUtils.get3Digits();
+    }
+
+    @Benchmark
+    public String monthNumber() {
+        return DataUtils.getMonthNumber();
+    }
+
+    @Benchmark
+    public String validYear() {
+        return DataUtils.getValidYear();
+    }
+
+    @Benchmark
+    public String numberFrom13To99() {
+        return DataUtils.getNumberFrom13To99();
+    }
+
+    @Benchmark
+    public CardInfo approvedCardInfo() {
+        return DataUtils.getApprovedCardInfo();
+    }
+}
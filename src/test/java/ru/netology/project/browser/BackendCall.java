@@ -0,0 +1,13 @@
+package ru.netology.project.browser;
+
+import lombok.Value;
+
+@Value
+public class BackendCall {
+    String method;
+    String path;
+    int status;
+    double latencyMillis;
+    String serverTiming;
+    String body;
+}
@@ -0,0 +1,69 @@
+package ru.netology.project.browser;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import lombok.extern.slf4j.Slf4j;
+import ru.netology.project.data.APIHelper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class BrowserNetwork {
+
+    private static final String defaultBlocked = "\\.(png|jpe?g|gif|svg|webp|ico|woff2?|ttf|otf|eot|mp4|webm)(\\?.*)?$";
+    private static final boolean enabled = Boolean.getBoolean("browser.network");
+    private static final Pattern blocked = compile(System.getProperty("browser.block", defaultBlocked));
+    private static final Set<String> backendPaths = Set.of(APIHelper.PAYMENT_PATH, APIHelper.CREDIT_PATH);
+    private static final Map<SelenideProxyServer, NetworkCapture> captures = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BrowserNetwork() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void attach() {
+        if (!enabled) {
+            return;
+        }
+        WebDriverRunner.getAndCheckWebDriver();
+        SelenideProxyServer proxy = WebDriverRunner.getSelenideProxy();
+        if (proxy == null) {
+            throw new IllegalStateException("browser.network needs the Selenide proxy, start the run with -Dselenide.proxyEnabled=true");
+        }
+        captures.computeIfAbsent(proxy, key -> {
+            NetworkCapture capture = new NetworkCapture(blocked, backendPaths);
+            capture.install(key);
+            log.info("Browser proxy filters installed, blocking {}", blocked);
+            return capture;
+        }).reset();
+    }
+
+    public static List<BackendCall> backendCalls() {
+        NetworkCapture capture = currentCapture();
+        return capture == null ? List.of() : capture.drain();
+    }
+
+    public static long blockedRequests() {
+        NetworkCapture capture = currentCapture();
+        return capture == null ? 0 : capture.getBlockedRequests();
+    }
+
+    private static NetworkCapture currentCapture() {
+        if (!enabled || !WebDriverRunner.hasWebDriverStarted()) {
+            return null;
+        }
+        SelenideProxyServer proxy = WebDriverRunner.getSelenideProxy();
+        return proxy == null ? null : captures.get(proxy);
+    }
+
+    private static Pattern compile(String regex) {
+        return regex == null || regex.isBlank() ? null : Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.netology.project.browser;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+class NetworkCapture {
+
+    private final Pattern blocked;
+    private final Set<String> backendPaths;
+    private final Map<HttpRequest, Long> started = new ConcurrentHashMap<>();
+    private final List<BackendCall> calls = new ArrayList<>();
+    private final LongAdder blockedRequests = new LongAdder();
+
+    NetworkCapture(Pattern blocked, Set<String> backendPaths) {
+        this.blocked = blocked;
+        this.backendPaths = backendPaths;
+    }
+
+    void install(SelenideProxyServer proxy) {
+        proxy.addRequestFilter("block-assets-and-time-backend", (request, contents, info) -> {
+            String url = info.getOriginalUrl();
+            if (blocked != null && blocked.matcher(url).find()) {
+                blockedRequests.increment();
+                return new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NO_CONTENT);
+            }
+            if (backendPaths.contains(path(url))) {
+                started.put(info.getOriginalRequest(), System.nanoTime());
+            }
+            return null;
+        });
+        proxy.addResponseFilter("capture-backend", (response, contents, info) -> {
+            Long start = started.remove(info.getOriginalRequest());
+            if (start == null) {
+                return;
+            }
+            BackendCall call = new BackendCall(
+                    info.getOriginalRequest().method().name(),
+                    path(info.getOriginalUrl()),
+                    response.status().code(),
+                    (System.nanoTime() - start) / 1_000_000.0,
+                    response.headers().get("Server-Timing"),
+                    contents.getTextContents());
+            synchronized (calls) {
+                calls.add(call);
+            }
+        });
+    }
+
+    void reset() {
+        synchronized (calls) {
+            calls.clear();
+        }
+        started.clear();
+        blockedRequests.reset();
+    }
+
+    List<BackendCall> drain() {
+        synchronized (calls) {
+            List<BackendCall> drained = new ArrayList<>(calls);
+            calls.clear();
+            return drained;
+        }
+    }
+
+    long getBlockedRequests() {
+        return blockedRequests.sum();
+    }
+
+    private static String path(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null ? "" : path;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.netology.project.browser;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+
+public class PooledDriver {
+
+    private final int id;
+    private final SelenideDriver driver;
+    private final Duration startup;
+    private int uses;
+
+    PooledDriver(int id, SelenideDriver driver, Duration startup) {
+        this.id = id;
+        this.driver = driver;
+        this.startup = startup;
+    }
+
+    public WebDriver getWebDriver() {
+        return driver.getWebDriver();
+    }
+
+    public SelenideProxyServer getProxy() {
+        return Configuration.proxyEnabled ? driver.getProxy() : null;
+    }
+
+    public Duration getStartup() {
+        return startup;
+    }
+
+    public int getUses() {
+        return uses;
+    }
+
+    void use() {
+        uses++;
+    }
+
+    boolean isHealthy() {
+        try {
+            return driver.getWebDriver().getWindowHandle() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    void close() {
+        try {
+            driver.close();
+        } catch (WebDriverException ignored) {
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "browser #" + id + " (" + uses + " tests, started in " + startup.toMillis() + " ms)";
+    }
+}
@@ -0,0 +1,145 @@
+package ru.netology.project.browser;
+
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.impl.StaticConfig;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class WebDriverPool implements ExtensionContext.Store.CloseableResource {
+
+    private final int size;
+    private final int recycleAfter;
+    private final Duration leaseTimeout;
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<PooledDriver> open = ConcurrentHashMap.newKeySet();
+    private final ExecutorService launcher;
+    private final AtomicInteger ids = new AtomicInteger();
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder launchFailures = new LongAdder();
+    private final LongAdder startupMillis = new LongAdder();
+    private final AtomicLong maxStartupMillis = new AtomicLong();
+    private final LongAdder leaseWaitMillis = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private volatile Exception lastFailure;
+    private volatile boolean closed;
+
+    public WebDriverPool(int size, int recycleAfter, Duration leaseTimeout) {
+        this.size = size;
+        this.recycleAfter = recycleAfter;
+        this.leaseTimeout = leaseTimeout;
+        this.launcher = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "webdriver-pool-launcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static WebDriverPool fromSystemProperties() {
+        int workers = Boolean.getBoolean("junit.jupiter.execution.parallel.enabled")
+                ? Integer.getInteger("junit.jupiter.execution.parallel.config.fixed.parallelism", 1)
+                : 1;
+        return new WebDriverPool(
+                Integer.getInteger("browser.pool.size", workers),
+                Integer.getInteger("browser.pool.recycleAfter", 100),
+                Duration.ofSeconds(Long.getLong("browser.pool.leaseTimeout", 120)));
+    }
+
+    public void prewarm() {
+        log.info("Launching {} browsers in the background, recycling each after {} tests", size, recycleAfter);
+        for (int i = 0; i < size; i++) {
+            launchAsync();
+        }
+    }
+
+    @SneakyThrows
+    public PooledDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + leaseTimeout.toNanos();
+        while (true) {
+            PooledDriver driver = idle.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (driver == null) {
+                throw new IllegalStateException("No browser became available within " + leaseTimeout.toSeconds() + " s", lastFailure);
+            }
+            if (driver.isHealthy()) {
+                driver.use();
+                leaseWaitMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return driver;
+            }
+            log.warn("{} failed the health check, replacing it", driver);
+            discard(driver);
+            launchAsync();
+        }
+    }
+
+    public void release(PooledDriver driver) {
+        if (closed) {
+            discard(driver);
+            return;
+        }
+        if (driver.getUses() >= recycleAfter) {
+            log.info("Recycling {}", driver);
+            recycled.increment();
+            discard(driver);
+            launchAsync();
+            return;
+        }
+        idle.offer(driver);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        launcher.shutdownNow();
+        open.forEach(this::discard);
+        long count = launches.sum();
+        log.info("WebDriver pool: {} browsers launched ({} failed), start-up mean {} ms, max {} ms, {} recycled, tests waited {} ms in total",
+                count, launchFailures.sum(), count == 0 ? 0 : startupMillis.sum() / count, maxStartupMillis.get(),
+                recycled.sum(), leaseWaitMillis.sum());
+    }
+
+    private void launchAsync() {
+        launcher.execute(() -> {
+            long start = System.nanoTime();
+            SelenideDriver driver = new SelenideDriver(new StaticConfig());
+            try {
+                driver.getAndCheckWebDriver();
+            } catch (RuntimeException e) {
+                launchFailures.increment();
+                lastFailure = e;
+                log.error("Browser launch failed", e);
+                return;
+            }
+            Duration startup = Duration.ofNanos(System.nanoTime() - start);
+            PooledDriver pooled = new PooledDriver(ids.incrementAndGet(), driver, startup);
+            launches.increment();
+            startupMillis.add(startup.toMillis());
+            maxStartupMillis.accumulateAndGet(startup.toMillis(), Math::max);
+            open.add(pooled);
+            log.info("Launched {}", pooled);
+            if (closed) {
+                discard(pooled);
+                return;
+            }
+            idle.offer(pooled);
+        });
+    }
+
+    private void discard(PooledDriver driver) {
+        open.remove(driver);
+        driver.close();
+    }
+}
@@ -0,0 +1,44 @@
+package ru.netology.project.browser;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class WebDriverPoolExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(WebDriverPoolExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.parseBoolean(System.getProperty("browser.pool", "true"))) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(WebDriverPool.class, key -> {
+            WebDriverPool pool = WebDriverPool.fromSystemProperties();
+            pool.prewarm();
+            return pool;
+        }, WebDriverPool.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        WebDriverPool pool = context.getRoot().getStore(NAMESPACE).get(WebDriverPool.class, WebDriverPool.class);
+        if (pool != null) {
+            PooledDriver driver = pool.lease();
+            context.getStore(NAMESPACE).put(PooledDriver.class, driver);
+            WebDriverRunner.setWebDriver(driver.getWebDriver(), driver.getProxy());
+        }
+        BrowserNetwork.attach();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        WebDriverPool pool = context.getRoot().getStore(NAMESPACE).get(WebDriverPool.class, WebDriverPool.class);
+        PooledDriver driver = context.getStore(NAMESPACE).remove(PooledDriver.class, PooledDriver.class);
+        if (pool != null && driver != null) {
+            pool.release(driver);
+        }
+    }
+}
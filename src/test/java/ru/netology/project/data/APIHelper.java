@@ -0,0 +1,71 @@
+package ru.netology.project.data;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+public class APIHelper {
+
+    public static final String PAYMENT_PATH = "/api/v1/pay";
+    public static final String CREDIT_PATH = "/api/v1/credit";
+
+    private static final RequestSpecification requestSpec = new RequestSpecBuilder()
+            .setBaseUri(System.getProperty("sut.url"))
+            .setAccept(ContentType.JSON)
+            .setContentType(ContentType.JSON)
+            .build();
+
+    public static Response sendPayment(CardInfo card) {
+        return send(PAYMENT_PATH, card);
+    }
+
+    public static Response sendCredit(CardInfo card) {
+        return send(CREDIT_PATH, card);
+    }
+
+    public static String getPaymentStatus(CardInfo card) {
+        return sendPayment(card).then().statusCode(200).extract().path("status");
+    }
+
+    public static String getCreditStatus(CardInfo card) {
+        return sendCredit(card).then().statusCode(200).extract().path("status");
+    }
+
+    private static Response send(String path, CardInfo card) {
+        return given()
+                .spec(requestSpec)
+                .body(toPayload(card))
+                .when()
+                .post(path);
+    }
+
+    public static Map<String, String> toPayload(CardInfo card) {
+        Map<String, String> payload = new LinkedHashMap<>();
+        payload.put("number", formatCardNumber(card.getNumber()));
+        payload.put("month", card.getMonth());
+        payload.put("year", card.getYear());
+        payload.put("holder", card.getHolder());
+        payload.put("cvc", card.getCvc());
+        return payload;
+    }
+
+    public static String formatCardNumber(String number) {
+        if (number == null) {
+            return null;
+        }
+        StringBuilder formatted = new StringBuilder(number.length() + number.length() / 4);
+        for (int i = 0; i < number.length(); i++) {
+            if (i > 0 && i % 4 == 0) {
+                formatted.append(' ');
+            }
+            formatted.append(number.charAt(i));
+        }
+        return formatted.toString();
+    }
+}
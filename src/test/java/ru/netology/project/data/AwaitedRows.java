@@ -0,0 +1,12 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+public class AwaitedRows {
+    EntityRows rows;
+    Duration elapsed;
+    int attempts;
+}
@@ -0,0 +1,187 @@
+package ru.netology.project.data;
+
+import com.github.javafaker.Faker;
+import com.google.gson.Gson;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class BulkDataGenerator {
+
+    public enum Format {
+        CSV,
+        JSONL
+    }
+
+    private static final int chunkSize = 10_000;
+    private static final int validMonths = 60;
+    private static final String csvHeader = "id,category,number,month,year,holder,cvc\n";
+    private static final String[] specSymbols = {
+            "!", "@", "#", "$", "%", "^", "&", "*", "(", ")", "_", "+", "=", "{", "}", "[", "]", "<", ">", "/", "?"
+    };
+    private static final DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("MM");
+    private static final DateTimeFormatter yearFormat = DateTimeFormatter.ofPattern("yy");
+    private static final Gson gson = new Gson();
+
+    private final long seed;
+    private final LocalDate today;
+    private final int threads;
+
+    public BulkDataGenerator(long seed, LocalDate today, int threads) {
+        this.seed = seed;
+        this.today = today;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) {
+        long seed = Long.getLong("bulk.seed", 42);
+        long count = Long.getLong("bulk.count", 100_000);
+        Format format = Format.valueOf(System.getProperty("bulk.format", "csv").toUpperCase());
+        Path output = Path.of(System.getProperty("bulk.output", "build/bulk-data/cards." + format.name().toLowerCase()));
+        String date = System.getProperty("bulk.date");
+        LocalDate today = date == null || date.isBlank() ? LocalDate.now() : LocalDate.parse(date);
+        new BulkDataGenerator(seed, today, Runtime.getRuntime().availableProcessors())
+                .write(count, format, output);
+    }
+
+    @SneakyThrows
+    public void write(long count, Format format, Path output) {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            write(count, format, writer);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Generated {} records (seed {}, date {}) into {} in {} s, {} records/s",
+                count, seed, today, output, String.format(Locale.ROOT, "%.2f", seconds),
+                String.format(Locale.ROOT, "%.0f", count / seconds));
+    }
+
+    @SneakyThrows
+    public void write(long count, Format format, Writer writer) {
+        if (format == Format.CSV) {
+            writer.write(csvHeader);
+        }
+        long chunks = (count + chunkSize - 1) / chunkSize;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Deque<Future<String>> window = new ArrayDeque<>();
+        try {
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long first = chunk * chunkSize;
+                int size = (int) Math.min(chunkSize, count - first);
+                long chunkIndex = chunk;
+                window.addLast(executor.submit(() -> renderChunk(chunkIndex, first, size, format)));
+                if (window.size() >= threads * 2) {
+                    writer.write(window.removeFirst().get());
+                }
+            }
+            while (!window.isEmpty()) {
+                writer.write(window.removeFirst().get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public CardRecord[] generateChunk(long chunk, long firstId, int size) {
+        Random random = new Random(seed * 1_000_003L + chunk);
+        Faker faker = new Faker(new Locale("ru"), random);
+        CardCategory[] categories = CardCategory.values();
+        CardRecord[] records = new CardRecord[size];
+        for (int i = 0; i < size; i++) {
+            CardCategory category = categories[random.nextInt(categories.length)];
+            records[i] = generate(firstId + i, category, random, faker);
+        }
+        return records;
+    }
+
+    private String renderChunk(long chunk, long firstId, int size, Format format) {
+        StringBuilder out = new StringBuilder(size * 96);
+        for (CardRecord record : generateChunk(chunk, firstId, size)) {
+            if (format == Format.CSV) {
+                appendCsv(out, record);
+            } else {
+                out.append(gson.toJson(record)).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private CardRecord generate(long id, CardCategory category, Random random, Faker faker) {
+        String number = random.nextBoolean() ? DataUtils.getApprovedCard() : DataUtils.getDeclinedCard();
+        LocalDate valid = today.plusMonths(random.nextInt(validMonths));
+        String month = valid.format(monthFormat);
+        String year = valid.format(yearFormat);
+        String holder = DataUtils.transliterate(faker.name().firstName()) + " " + DataUtils.transliterate(faker.name().lastName());
+        String cvc = String.format("%03d", 1 + random.nextInt(999));
+
+        switch (category) {
+            case EXPIRED:
+                LocalDate expired = today.minusMonths(1 + random.nextInt(60));
+                month = expired.format(monthFormat);
+                year = expired.format(yearFormat);
+                break;
+            case WRONG_FORMAT:
+                switch (random.nextInt(5)) {
+                    case 0:
+                        number = DataUtils.getCardNumber15Digits();
+                        break;
+                    case 1:
+                        month = String.valueOf(random.nextInt(10));
+                        break;
+                    case 2:
+                        year = String.valueOf(random.nextInt(10));
+                        break;
+                    case 3:
+                        holder = holder.replace(" ", specSymbols[random.nextInt(specSymbols.length)] + " ")
+                                + String.format("%02d", random.nextInt(100));
+                        break;
+                    default:
+                        cvc = random.nextBoolean() ? DataUtils.get000() : String.valueOf(random.nextInt(10));
+                        break;
+                }
+                break;
+            case CYRILLIC_NAME:
+                holder = faker.name().firstName() + specSymbols[random.nextInt(specSymbols.length)]
+                        + " " + faker.name().lastName();
+                break;
+            default:
+                break;
+        }
+        return new CardRecord(id, category, number, month, year, holder, cvc);
+    }
+
+    private static void appendCsv(StringBuilder out, CardRecord record) {
+        out.append(record.getId()).append(',')
+                .append(record.getCategory()).append(',');
+        appendCsvField(out, record.getNumber()).append(',');
+        appendCsvField(out, record.getMonth()).append(',');
+        appendCsvField(out, record.getYear()).append(',');
+        appendCsvField(out, record.getHolder()).append(',');
+        appendCsvField(out, record.getCvc()).append('\n');
+    }
+
+    private static StringBuilder appendCsvField(StringBuilder out, String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return out.append(value);
+        }
+        return out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,8 @@
+package ru.netology.project.data;
+
+public enum CardCategory {
+    VALID,
+    EXPIRED,
+    WRONG_FORMAT,
+    CYRILLIC_NAME
+}
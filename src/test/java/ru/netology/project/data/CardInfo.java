@@ -0,0 +1,14 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+import lombok.With;
+
+@Value
+@With
+public class CardInfo {
+    String number;
+    String month;
+    String year;
+    String holder;
+    String cvc;
+}
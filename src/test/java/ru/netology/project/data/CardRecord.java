@@ -0,0 +1,18 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+@Value
+public class CardRecord {
+    long id;
+    CardCategory category;
+    String number;
+    String month;
+    String year;
+    String holder;
+    String cvc;
+
+    public CardInfo toCardInfo() {
+        return new CardInfo(number, month, year, holder, cvc);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.netology.project.data;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+public class ConnectionPool {
+
+    private ConnectionPool() {
+    }
+
+    public static DataSource getDataSource() {
+        return Holder.dataSource;
+    }
+
+    public static void evict(Connection connection) {
+        Holder.dataSource.evictConnection(connection);
+    }
+
+    private static HikariDataSource createDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("database-helper");
+        config.setJdbcUrl(System.getProperty("db.url"));
+        config.setUsername(System.getProperty("db.user"));
+        config.setPassword(System.getProperty("db.password"));
+        config.setMaximumPoolSize(Integer.getInteger("db.pool.size", 4));
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(Long.getLong("db.pool.connectionTimeout", 10_000));
+        config.setValidationTimeout(Long.getLong("db.pool.validationTimeout", 2_000));
+        config.setKeepaliveTime(Long.getLong("db.pool.keepaliveTime", 60_000));
+        config.setLeakDetectionThreshold(Long.getLong("db.pool.leakDetectionThreshold", 5_000));
+        if (DatabaseDialect.fromUrl(config.getJdbcUrl()) == DatabaseDialect.MYSQL) {
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(dataSource::close, "database-helper-pool-shutdown"));
+        return dataSource;
+    }
+
+    private static class Holder {
+        private static final HikariDataSource dataSource = createDataSource();
+    }
+}
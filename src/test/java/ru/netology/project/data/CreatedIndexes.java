@@ -0,0 +1,53 @@
+package ru.netology.project.data;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ScalarHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class CreatedIndexes {
+
+    private static volatile boolean ensured;
+
+    private CreatedIndexes() {
+    }
+
+    public static boolean isRequested() {
+        return Boolean.getBoolean("db.createIndexes");
+    }
+
+    @SneakyThrows
+    public static synchronized void ensure() {
+        if (ensured) {
+            return;
+        }
+        DatabaseDialect dialect = DatabaseDialect.current();
+        QueryRunner runner = new QueryRunner(ConnectionPool.getDataSource());
+        List<String> created = new ArrayList<>();
+        for (String table : DatabaseReset.TABLES) {
+            String index = name(table);
+            if (dialect == DatabaseDialect.POSTGRES) {
+                runner.execute("CREATE INDEX IF NOT EXISTS " + index + " ON " + table + " (created)");
+                continue;
+            }
+            Number existing = runner.query("SELECT COUNT(*) FROM information_schema.statistics"
+                    + " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", new ScalarHandler<>(), table, index);
+            if (existing.longValue() == 0) {
+                runner.execute("CREATE INDEX " + index + " ON " + table + " (created)");
+                created.add(index);
+            }
+        }
+        if (!created.isEmpty()) {
+            log.info("Created indexes {} for created high-water-mark reads", created);
+        }
+        ensured = true;
+    }
+
+    private static String name(String table) {
+        return table + "_created";
+    }
+}
@@ -0,0 +1,13 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class CreditRow {
+    String id;
+    LocalDateTime created;
+    String status;
+    String bankId;
+}
@@ -1,7 +1,6 @@
 package ru.netology.project.data;
 
 import com.github.javafaker.Faker;
-import org.apache.commons.lang3.StringUtils;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -13,6 +12,16 @@ public class DataUtils {
 
     public static Faker faker = new Faker(new Locale("ru"));
 
+    private static final String[] rus = {"А", "Б", "В", "Г", "Д", "Е", "Ё", "Ж", "З", "И", "Й", "К", "Л", "М", "Н", "О", "П", "Р", "С", "Т", "У", "Ф", "Х", "Ц", "Ч", "Ш", "Щ", "Ъ", "Ы", "Ь", "Э", "Ю", "Я", "а", "б", "в", "г", "д", "е", "ё", "ж", "з", "и", "й", "к", "л", "м", "н", "о", "п", "р", "с", "т", "у", "ф", "х", "ц", "ч", "ш", "щ", "ъ", "ы", "ь", "э", "ю", "я"};
+    private static final String[] eng = {"A", "B", "V", "G", "D", "E", "Yo", "Zh", "Z", "I", "Y", "K", "L", "M", "N", "O", "P", "R", "S", "T", "U", "F", "H", "Ts", "Ch", "Sh", "Sht", "'", "I", "", "E", "Yu", "Ya", "a", "b", "v", "g", "d", "e", "yo", "zh", "z", "i", "y", "k", "l", "m", "n", "o", "p", "r", "s", "t", "u", "f", "h", "ts", "ch", "sh", "sht", "’", "i", "", "e", "yu", "ya"};
+    private static final char firstTransliteratedChar = 'Ё';
+    private static final char lastTransliteratedChar = 'ё';
+    private static final int maxTransliterationLength = 3;
+    private static final char[][] transliterationTable = buildTransliterationTable();
+    private static final String indexedCardPrefix = "4444";
+    private static final long indexedCardRange = 100_000_000_000L;
+    private static final long indexedCardMultiplier = 1_000_003L;
+
     public static String getApprovedCard() {
         return "4444444444444441";
     }
@@ -21,6 +30,53 @@ public class DataUtils {
         return "4444444444444442";
     }
 
+    public static CardInfo getApprovedCardInfo() {
+        return getCardInfo(getApprovedCard());
+    }
+
+    public static CardInfo getDeclinedCardInfo() {
+        return getCardInfo(getDeclinedCard());
+    }
+
+    public static CardInfo getCardInfo(String number) {
+        return new CardInfo(number, getMonthNumber(), getValidYear(), getNameCardholder(), get3Digits());
+    }
+
+    public static String getApprovedIndexedCard(long index) {
+        return getIndexedCard(index * 2);
+    }
+
+    public static String getDeclinedIndexedCard(long index) {
+        return getIndexedCard(index * 2 + 1);
+    }
+
+    public static String getIndexedCard(long index) {
+        if (index < 0 || index >= indexedCardRange) {
+            throw new IllegalArgumentException("Card index " + index + " is outside 0.." + (indexedCardRange - 1));
+        }
+        String body = indexedCardPrefix + String.format("%011d", Math.floorMod(index * indexedCardMultiplier, indexedCardRange));
+        return body + luhnCheckDigit(body);
+    }
+
+    public static boolean isApprovedIndex(long index) {
+        return index % 2 == 0;
+    }
+
+    private static char luhnCheckDigit(String body) {
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int digit = body.charAt(body.length() - 1 - i) - '0';
+            if (i % 2 == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
     public static String getCardNumber15Digits() {
         return "444444444444444";
     }
@@ -87,12 +143,31 @@ public class DataUtils {
     }
 
     public static String transliterate(String text) {
-        String[] rus = {"А", "Б", "В", "Г", "Д", "Е", "Ё", "Ж", "З", "И", "Й", "К", "Л", "М", "Н", "О", "П", "Р", "С", "Т", "У", "Ф", "Х", "Ц", "Ч", "Ш", "Щ", "Ъ", "Ы", "Ь", "Э", "Ю", "Я", "а", "б", "в", "г", "д", "е", "ё", "ж", "з", "и", "й", "к", "л", "м", "н", "о", "п", "р", "с", "т", "у", "ф", "х", "ц", "ч", "ш", "щ", "ъ", "ы", "ь", "э", "ю", "я"};
-        String[] eng = {"A", "B", "V", "G", "D", "E", "Yo", "Zh", "Z", "I", "Y", "K", "L", "M", "N", "O", "P", "R", "S", "T", "U", "F", "H", "Ts", "Ch", "Sh", "Sht", "'", "I", "", "E", "Yu", "Ya", "a", "b", "v", "g", "d", "e", "yo", "zh", "z", "i", "y", "k", "l", "m", "n", "o", "p", "r", "s", "t", "u", "f", "h", "ts", "ch", "sh", "sht", "’", "i", "", "e", "yu", "ya"};
-
-        text = StringUtils.replaceEach(text, rus, eng);
-
-        return text;
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        char[] buffer = new char[text.length() * maxTransliterationLength];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int index = c - firstTransliteratedChar;
+            char[] replacement = index >= 0 && index < transliterationTable.length ? transliterationTable[index] : null;
+            if (replacement == null) {
+                buffer[length++] = c;
+            } else {
+                System.arraycopy(replacement, 0, buffer, length, replacement.length);
+                length += replacement.length;
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    private static char[][] buildTransliterationTable() {
+        char[][] table = new char[lastTransliteratedChar - firstTransliteratedChar + 1][];
+        for (int i = 0; i < rus.length; i++) {
+            table[rus[i].charAt(0) - firstTransliteratedChar] = eng[i].toCharArray();
+        }
+        return table;
     }
 
     public static String getSpecSymbol() {
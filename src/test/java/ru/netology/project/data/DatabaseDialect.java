@@ -0,0 +1,27 @@
+package ru.netology.project.data;
+
+public enum DatabaseDialect {
+    MYSQL("jdbc:mysql:"),
+    POSTGRES("jdbc:postgresql:");
+
+    private final String urlPrefix;
+
+    DatabaseDialect(String urlPrefix) {
+        this.urlPrefix = urlPrefix;
+    }
+
+    public static DatabaseDialect fromUrl(String url) {
+        if (url != null) {
+            for (DatabaseDialect dialect : values()) {
+                if (url.startsWith(dialect.urlPrefix)) {
+                    return dialect;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported db.url: " + url);
+    }
+
+    public static DatabaseDialect current() {
+        return fromUrl(System.getProperty("db.url"));
+    }
+}
@@ -0,0 +1,9 @@
+package ru.netology.project.data;
+
+public class DatabaseLock {
+
+    public static final String TABLES = "database.tables";
+
+    private DatabaseLock() {
+    }
+}
@@ -0,0 +1,107 @@
+package ru.netology.project.data;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class DatabaseReset {
+
+    public static final List<String> TABLES = List.of("credit_request_entity", "order_entity", "payment_entity");
+
+    private static final DatabaseReset instance = new DatabaseReset(
+            DatabaseDialect.current(),
+            ResetStrategy.fromProperty(System.getProperty("db.reset")));
+
+    private final DatabaseDialect dialect;
+    private final ResetStrategy strategy;
+    private final List<String> statements;
+    private final List<String> restoreStatements;
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public DatabaseReset(DatabaseDialect dialect, ResetStrategy strategy) {
+        this.dialect = dialect;
+        this.strategy = strategy;
+        this.statements = strategy.statements(dialect, TABLES);
+        this.restoreStatements = strategy.restoreStatements(dialect);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::logSummary, "database-reset-summary"));
+    }
+
+    public static DatabaseReset getInstance() {
+        return instance;
+    }
+
+    @SneakyThrows
+    public Duration reset() {
+        long start = System.nanoTime();
+        try (Connection conn = ConnectionPool.getDataSource().getConnection()) {
+            try {
+                if (SeedBaseline.isCaptured()) {
+                    deleteAboveBaseline(conn);
+                } else {
+                    executeBatch(conn);
+                }
+            } catch (SQLException | RuntimeException e) {
+                ConnectionPool.evict(conn);
+                throw e;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        resets.incrementAndGet();
+        totalNanos.addAndGet(elapsed);
+        maxNanos.accumulateAndGet(elapsed, Math::max);
+        Duration duration = Duration.ofNanos(elapsed);
+        log.debug("Database reset ({}, {}) took {} ms", dialect, strategy, duration.toMillis());
+        return duration;
+    }
+
+    private void executeBatch(Connection conn) throws SQLException {
+        try (Statement statement = conn.createStatement()) {
+            for (String sql : statements) {
+                statement.addBatch(sql);
+            }
+            try {
+                statement.executeBatch();
+            } finally {
+                for (String sql : restoreStatements) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private void deleteAboveBaseline(Connection conn) throws SQLException {
+        for (String table : TABLES) {
+            List<Object> params = new ArrayList<>();
+            String sql = "DELETE FROM " + table + SeedBaseline.where(table, params);
+            try (PreparedStatement statement = conn.prepareStatement(sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private void logSummary() {
+        long count = resets.get();
+        if (count == 0) {
+            return;
+        }
+        log.info("Database reset ({}, {}): {} runs, avg {} ms, max {} ms, total {} ms",
+                dialect, strategy, count,
+                Duration.ofNanos(totalNanos.get() / count).toMillis(),
+                Duration.ofNanos(maxNanos.get()).toMillis(),
+                Duration.ofNanos(totalNanos.get()).toMillis());
+    }
+}
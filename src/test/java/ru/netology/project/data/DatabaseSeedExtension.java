@@ -0,0 +1,30 @@
+package ru.netology.project.data;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class DatabaseSeedExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DatabaseSeedExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        long rows = Long.getLong("db.seed.rows", 0);
+        if (rows <= 0 && CreatedIndexes.isRequested()) {
+            context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(CreatedIndexes.class, key -> {
+                CreatedIndexes.ensure();
+                return Boolean.TRUE;
+            });
+        }
+        if (rows <= 0 && !Boolean.getBoolean("db.seeded")) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(SeedBaseline.class, key -> {
+            if (rows > 0) {
+                DatabaseSeeder.fromSystemProperties().seed(rows);
+            }
+            SeedBaseline.capture();
+            return Boolean.TRUE;
+        });
+    }
+}
@@ -0,0 +1,183 @@
+package ru.netology.project.data;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+@Slf4j
+public class DatabaseSeeder {
+
+    private static final int batchSize = 5_000;
+    private static final int amount = 4_500_000;
+    private static final long historySeconds = Duration.ofDays(365).toSeconds();
+    private static final DateTimeFormatter copyTimestampFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final DatabaseDialect dialect;
+    private final long seed;
+    private final double creditShare;
+
+    public DatabaseSeeder(DatabaseDialect dialect, long seed, double creditShare) {
+        this.dialect = dialect;
+        this.seed = seed;
+        this.creditShare = creditShare;
+    }
+
+    public static void main(String[] args) {
+        fromSystemProperties().seed(Long.getLong("db.seed.rows", 1_000_000));
+    }
+
+    public static DatabaseSeeder fromSystemProperties() {
+        return new DatabaseSeeder(
+                DatabaseDialect.current(),
+                Long.getLong("db.seed.seed", 42),
+                Double.parseDouble(System.getProperty("db.seed.creditShare", "0.5")));
+    }
+
+    @SneakyThrows
+    public SeedReport seed(long purchases) {
+        long start = System.nanoTime();
+        Instant horizon = Instant.now().minusSeconds(60);
+        try (Connection conn = ConnectionPool.getDataSource().getConnection()) {
+            if (dialect == DatabaseDialect.POSTGRES) {
+                copy(conn, purchases, horizon);
+            } else {
+                insertBatched(conn, purchases, horizon);
+            }
+        }
+        SeedReport report = new SeedReport(purchases, purchases * 2, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Seeded {} purchases ({} rows) into {} in {} ms, {} rows/s",
+                purchases, report.getRows(), dialect, report.getElapsed().toMillis(),
+                String.format(Locale.ROOT, "%.0f", report.getRowsPerSecond()));
+        if (CreatedIndexes.isRequested()) {
+            CreatedIndexes.ensure();
+        }
+        return report;
+    }
+
+    private void insertBatched(Connection conn, long purchases, Instant horizon) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement payments = conn.prepareStatement(
+                "INSERT INTO payment_entity (id, amount, created, status, transaction_id) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement credits = conn.prepareStatement(
+                     "INSERT INTO credit_request_entity (id, bank_id, created, status) VALUES (?, ?, ?, ?)");
+             PreparedStatement orders = conn.prepareStatement(
+                     "INSERT INTO order_entity (id, created, credit_id, payment_id) VALUES (?, ?, ?, ?)")) {
+            Random random = new Random(seed);
+            for (long i = 0; i < purchases; i++) {
+                Purchase purchase = nextPurchase(random, horizon);
+                Timestamp created = Timestamp.from(purchase.created);
+                if (purchase.credit) {
+                    credits.setString(1, purchase.entityId);
+                    credits.setString(2, purchase.gateId);
+                    credits.setTimestamp(3, created);
+                    credits.setString(4, purchase.status);
+                    credits.addBatch();
+                } else {
+                    payments.setString(1, purchase.entityId);
+                    payments.setInt(2, amount);
+                    payments.setTimestamp(3, created);
+                    payments.setString(4, purchase.status);
+                    payments.setString(5, purchase.gateId);
+                    payments.addBatch();
+                }
+                orders.setString(1, purchase.orderId);
+                orders.setTimestamp(2, created);
+                orders.setString(3, purchase.credit ? purchase.gateId : null);
+                orders.setString(4, purchase.credit ? null : purchase.gateId);
+                orders.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    flush(conn, payments, credits, orders);
+                }
+            }
+            flush(conn, payments, credits, orders);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void flush(Connection conn, PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+        conn.commit();
+    }
+
+    @SneakyThrows
+    private void copy(Connection conn, long purchases, Instant horizon) {
+        CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+        Random random = new Random(seed);
+        StringBuilder payments = new StringBuilder();
+        StringBuilder credits = new StringBuilder();
+        StringBuilder orders = new StringBuilder();
+        for (long i = 0; i < purchases; i++) {
+            Purchase purchase = nextPurchase(random, horizon);
+            String created = LocalDateTime.ofInstant(purchase.created, ZoneId.systemDefault()).format(copyTimestampFormat);
+            if (purchase.credit) {
+                credits.append(purchase.entityId).append(',').append(purchase.gateId).append(',')
+                        .append(created).append(',').append(purchase.status).append('\n');
+                orders.append(purchase.orderId).append(',').append(created).append(',')
+                        .append(purchase.gateId).append(",\n");
+            } else {
+                payments.append(purchase.entityId).append(',').append(amount).append(',')
+                        .append(created).append(',').append(purchase.status).append(',')
+                        .append(purchase.gateId).append('\n');
+                orders.append(purchase.orderId).append(',').append(created).append(",,")
+                        .append(purchase.gateId).append('\n');
+            }
+            if ((i + 1) % (batchSize * 10) == 0) {
+                copyChunk(copyManager, payments, credits, orders);
+            }
+        }
+        copyChunk(copyManager, payments, credits, orders);
+    }
+
+    private static void copyChunk(CopyManager copyManager, StringBuilder payments, StringBuilder credits,
+                                  StringBuilder orders) throws Exception {
+        copyIn(copyManager, "COPY payment_entity (id, amount, created, status, transaction_id) FROM STDIN WITH (FORMAT csv)", payments);
+        copyIn(copyManager, "COPY credit_request_entity (id, bank_id, created, status) FROM STDIN WITH (FORMAT csv)", credits);
+        copyIn(copyManager, "COPY order_entity (id, created, credit_id, payment_id) FROM STDIN WITH (FORMAT csv)", orders);
+    }
+
+    private static void copyIn(CopyManager copyManager, String sql, StringBuilder rows) throws Exception {
+        if (rows.length() > 0) {
+            copyManager.copyIn(sql, new StringReader(rows.toString()));
+            rows.setLength(0);
+        }
+    }
+
+    private Purchase nextPurchase(Random random, Instant horizon) {
+        Purchase purchase = new Purchase();
+        purchase.credit = random.nextDouble() < creditShare;
+        purchase.status = random.nextBoolean() ? "APPROVED" : "DECLINED";
+        purchase.entityId = new UUID(random.nextLong(), random.nextLong()).toString();
+        purchase.gateId = new UUID(random.nextLong(), random.nextLong()).toString();
+        purchase.orderId = new UUID(random.nextLong(), random.nextLong()).toString();
+        purchase.created = horizon.minusSeconds((long) (random.nextDouble() * historySeconds));
+        return purchase;
+    }
+
+    private static class Purchase {
+        boolean credit;
+        String status;
+        String entityId;
+        String gateId;
+        String orderId;
+        Instant created;
+    }
+}
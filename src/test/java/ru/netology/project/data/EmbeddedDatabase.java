@@ -0,0 +1,104 @@
+package ru.netology.project.data;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.QueryRunner;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+@Slf4j
+public class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String schemaResource = "embedded-schema.sql";
+    private static final String database = "app";
+    private static final String user = "app";
+    private static final String password = "pass";
+
+    private final EmbeddedPostgres postgres;
+    private final int port;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres, int port) {
+        this.postgres = postgres;
+        this.port = port;
+    }
+
+    public static int portFromSystemProperties() {
+        return Integer.getInteger("db.embedded.port", 5433);
+    }
+
+    public static String url(int port) {
+        return "jdbc:postgresql://localhost:" + port + "/" + database;
+    }
+
+    public static boolean isRunning(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 200);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @SneakyThrows
+    public static EmbeddedDatabase start(int port) {
+        long startedAt = System.nanoTime();
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setPort(port)
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .setServerConfig("full_page_writes", "off")
+                .start();
+        QueryRunner admin = new QueryRunner(postgres.getPostgresDatabase());
+        admin.execute("CREATE ROLE " + user + " LOGIN PASSWORD '" + password + "'");
+        admin.execute("CREATE DATABASE " + database + " OWNER " + user);
+        QueryRunner app = new QueryRunner(postgres.getDatabase(user, database));
+        for (String statement : schema().split(";")) {
+            if (!statement.isBlank()) {
+                app.execute(statement);
+            }
+        }
+        log.info("Embedded Postgres {} ready in {} ms", url(port), (System.nanoTime() - startedAt) / 1_000_000);
+        return new EmbeddedDatabase(postgres, port);
+    }
+
+    public static void configureDatabaseHelper(int port) {
+        System.setProperty("db.url", url(port));
+        System.setProperty("db.user", user);
+        System.setProperty("db.password", password);
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        postgres.close();
+        log.info("Embedded Postgres on port {} stopped", port);
+    }
+
+    @SneakyThrows
+    private static String schema() {
+        try (InputStream stream = EmbeddedDatabase.class.getClassLoader().getResourceAsStream(schemaResource)) {
+            if (stream == null) {
+                throw new IllegalStateException(schemaResource + " is not on the test classpath");
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @SneakyThrows
+    public static void main(String[] args) {
+        EmbeddedDatabase embedded = start(portFromSystemProperties());
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            embedded.close();
+            stopped.countDown();
+        }, "embedded-postgres-shutdown"));
+        log.info("Start the SUT with --spring.datasource.url={} --spring.datasource.username={} --spring.datasource.password={}, stop with Ctrl+C",
+                url(embedded.port), user, password);
+        stopped.await();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.netology.project.data;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class EmbeddedDatabaseExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(EmbeddedDatabaseExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.getBoolean("db.embedded")) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(EmbeddedDatabase.class, key -> connect(), Integer.class);
+    }
+
+    private static Integer connect() {
+        int port = EmbeddedDatabase.portFromSystemProperties();
+        if (!EmbeddedDatabase.isRunning(port)) {
+            throw new IllegalStateException("db.embedded is set but nothing listens on port " + port
+                    + "; start the database with `gradlew embeddedDatabase` and boot the SUT against "
+                    + EmbeddedDatabase.url(port) + " before running the tests");
+        }
+        EmbeddedDatabase.configureDatabaseHelper(port);
+        return port;
+    }
+}
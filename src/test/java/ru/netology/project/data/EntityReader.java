@@ -0,0 +1,167 @@
+package ru.netology.project.data;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.QueryRunner;
+import ru.netology.project.timing.Phase;
+import ru.netology.project.timing.PhaseTimer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+@Slf4j
+public class EntityReader {
+
+    private static final String payments = "payment_entity";
+    private static final String credits = "credit_request_entity";
+    private static final String orders = "order_entity";
+
+    private static final Duration awaitTimeout = Duration.ofMillis(Long.getLong("db.await.timeout", 15_000));
+    private static final long initialBackoffMillis = 10;
+    private static final long maxBackoffMillis = 500;
+
+    private final Map<String, Mark> marks;
+
+    private EntityReader(Map<String, Mark> marks) {
+        this.marks = marks;
+    }
+
+    public static EntityReader mark() {
+        return PhaseTimer.time(Phase.DB_ASSERTION, EntityReader::captureMarks);
+    }
+
+    @SneakyThrows
+    private static EntityReader captureMarks() {
+        String sql = markQuery(payments) + " UNION ALL " + markQuery(credits) + " UNION ALL " + markQuery(orders);
+        Map<String, Mark> marks = getRunner().query(sql, rs -> {
+            Map<String, Mark> result = new HashMap<>();
+            while (rs.next()) {
+                result.computeIfAbsent(rs.getString("source"), table -> new Mark())
+                        .add(rs.getTimestamp("created"), rs.getString("id"));
+            }
+            return result;
+        });
+        return new EntityReader(marks);
+    }
+
+    public EntityRows read() {
+        return PhaseTimer.time(Phase.DB_ASSERTION, this::query);
+    }
+
+    public AwaitedRows await(Predicate<EntityRows> condition) {
+        return PhaseTimer.time(Phase.DB_ASSERTION, () -> poll(condition));
+    }
+
+    @SneakyThrows
+    private AwaitedRows poll(Predicate<EntityRows> condition) {
+        long start = System.nanoTime();
+        long deadline = start + awaitTimeout.toNanos();
+        long backoff = initialBackoffMillis;
+        int attempts = 0;
+        EntityRows rows;
+        while (true) {
+            attempts++;
+            rows = query();
+            long now = System.nanoTime();
+            if (condition.test(rows)) {
+                AwaitedRows awaited = new AwaitedRows(rows, Duration.ofNanos(now - start), attempts);
+                log.info("Expected rows visible after {} ms ({} queries)", awaited.getElapsed().toMillis(), attempts);
+                return awaited;
+            }
+            if (now >= deadline) {
+                throw new AssertionError("Expected rows not visible within " + awaitTimeout.toMillis() + " ms ("
+                        + attempts + " queries, -Ddb.await.timeout), last read " + rows);
+            }
+            long remainingMillis = Duration.ofNanos(deadline - now).toMillis();
+            Thread.sleep(Math.max(1, Math.min(backoff, remainingMillis)));
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    @SneakyThrows
+    private EntityRows query() {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT 'payment_entity' AS source, id, created, status, amount, transaction_id AS reference, NULL AS link"
+                + " FROM " + payments + where(payments, params)
+                + " UNION ALL SELECT 'credit_request_entity', id, created, status, NULL, bank_id, NULL"
+                + " FROM " + credits + where(credits, params)
+                + " UNION ALL SELECT 'order_entity', id, created, NULL, NULL, payment_id, credit_id"
+                + " FROM " + orders + where(orders, params)
+                + " ORDER BY created";
+        return getRunner().query(sql, EntityReader::toRows, params.toArray());
+    }
+
+    private static EntityRows toRows(ResultSet rs) throws SQLException {
+        List<PaymentRow> paymentRows = new ArrayList<>();
+        List<CreditRow> creditRows = new ArrayList<>();
+        List<OrderRow> orderRows = new ArrayList<>();
+        while (rs.next()) {
+            String id = rs.getString("id");
+            LocalDateTime created = toLocalDateTime(rs.getTimestamp("created"));
+            switch (rs.getString("source")) {
+                case payments:
+                    int amount = rs.getInt("amount");
+                    paymentRows.add(new PaymentRow(id, created, rs.getString("status"),
+                            rs.wasNull() ? null : amount, rs.getString("reference")));
+                    break;
+                case credits:
+                    creditRows.add(new CreditRow(id, created, rs.getString("status"), rs.getString("reference")));
+                    break;
+                default:
+                    orderRows.add(new OrderRow(id, created, rs.getString("reference"), rs.getString("link")));
+            }
+        }
+        return new EntityRows(
+                Collections.unmodifiableList(paymentRows),
+                Collections.unmodifiableList(creditRows),
+                Collections.unmodifiableList(orderRows));
+    }
+
+    private String where(String table, List<Object> params) {
+        Mark mark = marks.get(table);
+        if (mark == null) {
+            return SeedBaseline.where(table, params);
+        }
+        StringBuilder sql = new StringBuilder(" WHERE created >= ?");
+        params.add(mark.created);
+        if (!mark.ids.isEmpty()) {
+            sql.append(" AND id NOT IN (").append(String.join(", ", Collections.nCopies(mark.ids.size(), "?"))).append(")");
+            params.addAll(mark.ids);
+        }
+        return sql.toString();
+    }
+
+    private static String markQuery(String table) {
+        return "SELECT '" + table + "' AS source, id, created FROM " + table
+                + " WHERE created = (SELECT MAX(created) FROM " + table + ")";
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static QueryRunner getRunner() {
+        return new QueryRunner(ConnectionPool.getDataSource());
+    }
+
+    private static class Mark {
+        private Timestamp created;
+        private final Set<String> ids = new HashSet<>();
+
+        private void add(Timestamp created, String id) {
+            this.created = created;
+            ids.add(id);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Value
+public class EntityRows {
+    List<PaymentRow> payments;
+    List<CreditRow> credits;
+    List<OrderRow> orders;
+
+    public PaymentRow singlePayment() {
+        if (payments.size() != 1) {
+            throw new AssertionError("Expected one payment_entity row since the test started, found " + payments);
+        }
+        return payments.get(0);
+    }
+
+    public CreditRow singleCredit() {
+        if (credits.size() != 1) {
+            throw new AssertionError("Expected one credit_request_entity row since the test started, found " + credits);
+        }
+        return credits.get(0);
+    }
+
+    public Optional<OrderRow> orderFor(PaymentRow payment) {
+        return orders.stream()
+                .filter(order -> payment.getTransactionId() != null && Objects.equals(order.getPaymentId(), payment.getTransactionId()))
+                .findFirst();
+    }
+
+    public Optional<OrderRow> orderFor(CreditRow credit) {
+        return orders.stream()
+                .filter(order -> credit.getBankId() != null && Objects.equals(order.getCreditId(), credit.getBankId()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,13 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class OrderRow {
+    String id;
+    LocalDateTime created;
+    String paymentId;
+    String creditId;
+}
@@ -0,0 +1,14 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class PaymentRow {
+    String id;
+    LocalDateTime created;
+    String status;
+    Integer amount;
+    String transactionId;
+}
@@ -0,0 +1,53 @@
+package ru.netology.project.data;
+
+import java.util.List;
+
+public enum ResetStrategy {
+    DELETE,
+    TRUNCATE;
+
+    public List<String> statements(DatabaseDialect dialect, List<String> tables) {
+        if (this == DELETE) {
+            return deleteAll(tables);
+        }
+        switch (dialect) {
+            case POSTGRES:
+                return List.of("TRUNCATE " + String.join(", ", tables) + " RESTART IDENTITY");
+            case MYSQL:
+                return mysqlTruncate(tables);
+            default:
+                throw new IllegalStateException("No TRUNCATE statements for " + dialect);
+        }
+    }
+
+    public List<String> restoreStatements(DatabaseDialect dialect) {
+        if (this == TRUNCATE && dialect == DatabaseDialect.MYSQL) {
+            return List.of("SET FOREIGN_KEY_CHECKS = 1");
+        }
+        return List.of();
+    }
+
+    public static ResetStrategy fromProperty(String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("auto")) {
+            return TRUNCATE;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    private static List<String> deleteAll(List<String> tables) {
+        String[] statements = new String[tables.size()];
+        for (int i = 0; i < tables.size(); i++) {
+            statements[i] = "DELETE FROM " + tables.get(i);
+        }
+        return List.of(statements);
+    }
+
+    private static List<String> mysqlTruncate(List<String> tables) {
+        String[] statements = new String[tables.size() + 1];
+        statements[0] = "SET FOREIGN_KEY_CHECKS = 0";
+        for (int i = 0; i < tables.size(); i++) {
+            statements[i + 1] = "TRUNCATE TABLE " + tables.get(i);
+        }
+        return List.of(statements);
+    }
+}
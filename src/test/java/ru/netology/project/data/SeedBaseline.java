@@ -0,0 +1,51 @@
+package ru.netology.project.data;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.QueryRunner;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class SeedBaseline {
+
+    private static volatile Map<String, Timestamp> highWaterMarks;
+
+    private SeedBaseline() {
+    }
+
+    @SneakyThrows
+    public static synchronized void capture() {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < DatabaseReset.TABLES.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(SELECT MAX(created) FROM ").append(DatabaseReset.TABLES.get(i)).append(")");
+        }
+        Map<String, Timestamp> marks = new QueryRunner(ConnectionPool.getDataSource()).query(sql.toString(), rs -> {
+            Map<String, Timestamp> result = new HashMap<>();
+            rs.next();
+            for (int i = 0; i < DatabaseReset.TABLES.size(); i++) {
+                result.put(DatabaseReset.TABLES.get(i), rs.getTimestamp(i + 1));
+            }
+            return result;
+        });
+        highWaterMarks = marks;
+        log.info("Seeded rows are excluded from verification, created high-water marks: {}", marks);
+    }
+
+    public static boolean isCaptured() {
+        return highWaterMarks != null;
+    }
+
+    public static String where(String table, List<Object> params) {
+        Map<String, Timestamp> marks = highWaterMarks;
+        Timestamp mark = marks == null ? null : marks.get(table);
+        if (mark == null) {
+            return "";
+        }
+        params.add(mark);
+        return " WHERE created > ?";
+    }
+}
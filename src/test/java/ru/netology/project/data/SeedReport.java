@@ -0,0 +1,16 @@
+package ru.netology.project.data;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+public class SeedReport {
+    long purchases;
+    long rows;
+    Duration elapsed;
+
+    public double getRowsPerSecond() {
+        return rows / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+    }
+}
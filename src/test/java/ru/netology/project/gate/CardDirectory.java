@@ -0,0 +1,30 @@
+package ru.netology.project.gate;
+
+import java.util.Map;
+
+public interface CardDirectory {
+
+    String statusOf(String number);
+
+    long size();
+
+    static CardDirectory of(Map<String, String> cards) {
+        Map<String, String> copy = Map.copyOf(cards);
+        return new CardDirectory() {
+            @Override
+            public String statusOf(String number) {
+                return number == null ? null : copy.get(number);
+            }
+
+            @Override
+            public long size() {
+                return copy.size();
+            }
+
+            @Override
+            public String toString() {
+                return copy.size() + " in-memory cards";
+            }
+        };
+    }
+}
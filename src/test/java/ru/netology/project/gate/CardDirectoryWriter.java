@@ -0,0 +1,85 @@
+package ru.netology.project.gate;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import ru.netology.project.data.DataUtils;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+@Slf4j
+public class CardDirectoryWriter {
+
+    private CardDirectoryWriter() {
+    }
+
+    public static void main(String[] args) {
+        long count = Long.getLong("gate.cards.count", 1_000_000);
+        Path file = Path.of(System.getProperty("gate.cards", "build/gate-cards/cards.bin"));
+        write(file, count);
+    }
+
+    @SneakyThrows
+    public static void write(Path file, long count) {
+        long start = System.nanoTime();
+        Map<String, String> fixed = GateSimulator.defaultCards();
+        long entries = count + fixed.size();
+        int slotBits = Math.max(1, 64 - Long.numberOfLeadingZeros(entries * 2 - 1));
+        if (slotBits > MappedCardDirectory.maxSlotBits) {
+            throw new IllegalArgumentException(count + " cards do not fit into a single mapped directory");
+        }
+        int mask = (1 << slotBits) - 1;
+        long bytes = MappedCardDirectory.headerBytes + ((long) MappedCardDirectory.slotBytes << slotBits);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.deleteIfExists(file);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            for (Map.Entry<String, String> card : fixed.entrySet()) {
+                written += put(buffer, mask, card.getKey(), card.getValue());
+            }
+            for (long index = 0; index < count; index++) {
+                written += put(buffer, mask, DataUtils.getIndexedCard(index), DataUtils.isApprovedIndex(index) ? "APPROVED" : "DECLINED");
+            }
+            buffer.putInt(0, MappedCardDirectory.magic);
+            buffer.putInt(4, MappedCardDirectory.version);
+            buffer.putInt(8, slotBits);
+            buffer.putLong(16, written);
+            buffer.force();
+        }
+        log.info("Wrote {} cards ({} MB, {} slots) to {} in {} ms", written, bytes >> 20, mask + 1, file,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int put(MappedByteBuffer buffer, int mask, String number, String status) {
+        long key = MappedCardDirectory.encode(number);
+        byte code = statusCode(status);
+        for (int slot = MappedCardDirectory.slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            int position = MappedCardDirectory.headerBytes + slot * MappedCardDirectory.slotBytes;
+            long stored = buffer.getLong(position);
+            if (stored == key) {
+                return 0;
+            }
+            if (stored == 0) {
+                buffer.putLong(position, key);
+                buffer.put(position + Long.BYTES, code);
+                return 1;
+            }
+        }
+    }
+
+    private static byte statusCode(String status) {
+        for (byte code = 1; code < MappedCardDirectory.statuses.length; code++) {
+            if (MappedCardDirectory.statuses[code].equals(status)) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported card status " + status);
+    }
+}
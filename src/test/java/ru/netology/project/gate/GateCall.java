@@ -0,0 +1,26 @@
+package ru.netology.project.gate;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Value
+public class GateCall {
+    long sequence;
+    String path;
+    String card;
+    int code;
+    String status;
+    Instant arrival;
+    Duration decisionTime;
+    Duration serviceTime;
+
+    public boolean isComplete() {
+        return serviceTime != null;
+    }
+
+    GateCall complete(Duration serviceTime) {
+        return new GateCall(sequence, path, card, code, status, arrival, decisionTime, serviceTime);
+    }
+}
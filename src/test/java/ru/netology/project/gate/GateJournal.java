@@ -0,0 +1,109 @@
+package ru.netology.project.gate;
+
+import lombok.SneakyThrows;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class GateJournal {
+
+    private static final Duration completionTimeout = Duration.ofSeconds(5);
+
+    private final int capacity;
+    private final TreeMap<Long, GateCall> calls = new TreeMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHistogram serviceMicros = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> byPath = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> byCode = new ConcurrentHashMap<>();
+
+    public GateJournal(int capacity) {
+        this.capacity = capacity;
+    }
+
+    long record(String path, String card, int code, String status, Instant arrival, long decisionNanos) {
+        byPath.computeIfAbsent(path, key -> new LongAdder()).increment();
+        byCode.computeIfAbsent(code, key -> new LongAdder()).increment();
+        synchronized (calls) {
+            long next = sequence.incrementAndGet();
+            calls.put(next, new GateCall(next, path, card, code, status, arrival, Duration.ofNanos(decisionNanos), null));
+            if (calls.size() > capacity) {
+                calls.pollFirstEntry();
+            }
+            return next;
+        }
+    }
+
+    void complete(long number, long serviceNanos) {
+        serviceMicros.recordValue(Math.max(0, serviceNanos / 1000));
+        synchronized (calls) {
+            calls.computeIfPresent(number, (key, call) -> call.complete(Duration.ofNanos(serviceNanos)));
+            calls.notifyAll();
+        }
+    }
+
+    public long mark() {
+        return sequence.get();
+    }
+
+    public List<GateCall> since(long mark) {
+        synchronized (calls) {
+            return new ArrayList<>(calls.tailMap(mark, false).values());
+        }
+    }
+
+    public List<GateCall> since(long mark, String card) {
+        String digits = digits(card);
+        return since(mark).stream()
+                .filter(call -> digits.equals(digits(call.getCard())))
+                .collect(Collectors.toList());
+    }
+
+    @SneakyThrows
+    public GateCall single(long mark) {
+        long deadline = System.nanoTime() + completionTimeout.toNanos();
+        synchronized (calls) {
+            while (true) {
+                List<GateCall> recent = since(mark);
+                if (recent.size() != 1) {
+                    throw new AssertionError("Expected exactly one gate call, got " + recent);
+                }
+                GateCall call = recent.get(0);
+                if (call.isComplete()) {
+                    return call;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new AssertionError("Gate call still writing its response after "
+                            + completionTimeout.toSeconds() + " s: " + call);
+                }
+                TimeUnit.NANOSECONDS.timedWait(calls, remaining);
+            }
+        }
+    }
+
+    public GateStats stats() {
+        Histogram snapshot = serviceMicros.copy();
+        return GateStats.of(snapshot, counts(byPath), counts(byCode));
+    }
+
+    private static String digits(String card) {
+        return card == null ? "" : card.replaceAll("\\D", "");
+    }
+
+    private static <K> Map<K, Long> counts(Map<K, LongAdder> adders) {
+        Map<K, Long> result = new TreeMap<>();
+        adders.forEach((key, adder) -> result.put(key, adder.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package ru.netology.project.gate;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class GateProfile {
+    @Builder.Default
+    LatencyDistribution latency = LatencyDistribution.none();
+    double timeoutRate;
+    @Builder.Default
+    Duration timeout = Duration.ofSeconds(30);
+    int errorBurstEvery;
+    int errorBurstLength;
+    @Builder.Default
+    Duration dripDelay = Duration.ZERO;
+
+    public static GateProfile fromSystemProperties() {
+        return GateProfile.builder()
+                .latency(LatencyDistribution.parse(System.getProperty("gate.latency")))
+                .timeoutRate(Double.parseDouble(System.getProperty("gate.timeout.rate", "0")))
+                .timeout(Duration.ofMillis(Long.getLong("gate.timeout", 30_000)))
+                .errorBurstEvery(Integer.getInteger("gate.errors.every", 0))
+                .errorBurstLength(Integer.getInteger("gate.errors.burst", 0))
+                .dripDelay(Duration.ofMillis(Long.getLong("gate.drip.delay", 0)))
+                .build();
+    }
+
+    public boolean isErrorBurst(long requestNumber) {
+        return errorBurstEvery > 0 && errorBurstLength > 0 && requestNumber % errorBurstEvery >= errorBurstEvery - errorBurstLength;
+    }
+}
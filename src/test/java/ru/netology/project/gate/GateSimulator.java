@@ -0,0 +1,214 @@
+package ru.netology.project.gate;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class GateSimulator {
+
+    private static final Gson gson = new Gson();
+
+    private final CardDirectory cards;
+    private final GateProfile profile;
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gate-simulator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final GateJournal journal = new GateJournal(Integer.getInteger("gate.journal.size", 100_000));
+
+    public GateSimulator(CardDirectory cards, GateProfile profile) {
+        this.cards = cards;
+        this.profile = profile;
+    }
+
+    public static Map<String, String> defaultCards() {
+        Map<String, String> cards = new LinkedHashMap<>();
+        cards.put("4444 4444 4444 4441", "APPROVED");
+        cards.put("4444 4444 4444 4442", "DECLINED");
+        return cards;
+    }
+
+    public static CardDirectory cardsFromSystemProperties() {
+        String file = System.getProperty("gate.cards");
+        if (file == null || file.isBlank()) {
+            return CardDirectory.of(defaultCards());
+        }
+        return MappedCardDirectory.open(Path.of(file));
+    }
+
+    public static Set<URI> endpointsFromSystemProperties() {
+        Set<URI> endpoints = new LinkedHashSet<>();
+        endpoints.add(URI.create(System.getProperty("spring.payment-gate.url", "http://localhost:9999/payment")));
+        endpoints.add(URI.create(System.getProperty("spring.credit-gate.url", "http://localhost:9999/credit")));
+        return endpoints;
+    }
+
+    @SneakyThrows
+    public static void main(String[] args) {
+        GateSimulator simulator = new GateSimulator(cardsFromSystemProperties(), GateProfile.fromSystemProperties());
+        simulator.start(endpointsFromSystemProperties());
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            simulator.stop();
+            stopped.countDown();
+        }, "gate-simulator-shutdown"));
+        stopped.await();
+    }
+
+    @SneakyThrows
+    public void start(Set<URI> endpoints) {
+        Map<Integer, HttpServer> byPort = new LinkedHashMap<>();
+        for (URI endpoint : endpoints) {
+            HttpServer server = byPort.get(endpoint.getPort());
+            if (server == null) {
+                server = HttpServer.create(new InetSocketAddress(endpoint.getPort()), 0);
+                server.setExecutor(executor);
+                byPort.put(endpoint.getPort(), server);
+            }
+            server.createContext(endpoint.getPath(), this::handle);
+        }
+        for (HttpServer server : byPort.values()) {
+            server.start();
+            servers.add(server);
+        }
+        log.info("Gate simulator listening on {} with {} and {}", endpoints, cards, profile);
+    }
+
+    public void stop() {
+        servers.forEach(server -> server.stop(0));
+        servers.clear();
+        executor.shutdownNow();
+        log.info("Gate simulator served {} requests, max {} in flight, {}", requests.get(), maxInFlight.get(), journal.stats());
+    }
+
+    public GateJournal getJournal() {
+        return journal;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Instant arrival = Instant.now();
+        long arrivalNanos = System.nanoTime();
+        long requestNumber = requests.getAndIncrement();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        String number = null;
+        int code = 0;
+        String status = null;
+        long journaled = -1;
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                code = 405;
+                journaled = record(exchange, number, code, status, arrival, arrivalNanos);
+                respond(exchange, code, null);
+                return;
+            }
+            JsonObject body = gson.fromJson(
+                    new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), JsonObject.class);
+            number = body != null && body.has("number") ? body.get("number").getAsString() : null;
+            Random random = ThreadLocalRandom.current();
+
+            sleep(profile.getLatency().next(random));
+            if (profile.getTimeoutRate() > 0 && random.nextDouble() < profile.getTimeoutRate()) {
+                sleep(profile.getTimeout());
+                exchange.close();
+                return;
+            }
+            if (profile.isErrorBurst(requestNumber)) {
+                code = 503;
+                journaled = record(exchange, number, code, status, arrival, arrivalNanos);
+                respond(exchange, code, null);
+                return;
+            }
+            String cardStatus = cards.statusOf(number);
+            if (cardStatus == null) {
+                code = 400;
+                journaled = record(exchange, number, code, status, arrival, arrivalNanos);
+                respond(exchange, code, null);
+                return;
+            }
+            JsonObject response = new JsonObject();
+            response.addProperty("id", UUID.randomUUID().toString());
+            response.addProperty("status", cardStatus);
+            code = 200;
+            status = cardStatus;
+            journaled = record(exchange, number, code, status, arrival, arrivalNanos);
+            respond(exchange, code, gson.toJson(response));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } finally {
+            inFlight.decrementAndGet();
+            if (journaled < 0) {
+                journaled = record(exchange, number, code, status, arrival, arrivalNanos);
+            }
+            journal.complete(journaled, System.nanoTime() - arrivalNanos);
+        }
+    }
+
+    private long record(HttpExchange exchange, String number, int code, String status, Instant arrival, long arrivalNanos) {
+        return journal.record(exchange.getRequestURI().getPath(), number, code, status, arrival, System.nanoTime() - arrivalNanos);
+    }
+
+    private void respond(HttpExchange exchange, int code, String json) throws IOException, InterruptedException {
+        if (json == null) {
+            exchange.sendResponseHeaders(code, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        Duration dripDelay = profile.getDripDelay();
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (dripDelay.isZero()) {
+                exchange.sendResponseHeaders(code, bytes.length);
+                out.write(bytes);
+                return;
+            }
+            exchange.sendResponseHeaders(code, 0);
+            for (byte b : bytes) {
+                out.write(b);
+                out.flush();
+                sleep(dripDelay);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        if (!duration.isZero() && !duration.isNegative()) {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.netology.project.gate;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class GateSimulatorExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(GateSimulatorExtension.class);
+
+    private static volatile GateSimulator simulator;
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.getBoolean("gate.embedded")) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+                GateSimulator.class, key -> start(), ExtensionContext.Store.CloseableResource.class);
+    }
+
+    public static GateSimulator getSimulator() {
+        return simulator;
+    }
+
+    private static ExtensionContext.Store.CloseableResource start() {
+        GateSimulator started = new GateSimulator(GateSimulator.cardsFromSystemProperties(), GateProfile.fromSystemProperties());
+        started.start(GateSimulator.endpointsFromSystemProperties());
+        simulator = started;
+        return () -> {
+            started.stop();
+            simulator = null;
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package ru.netology.project.gate;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+@Value
+public class GateStats {
+    long calls;
+    Map<String, Long> callsByPath;
+    Map<Integer, Long> callsByCode;
+    double p50Millis;
+    double p95Millis;
+    double p99Millis;
+    double maxMillis;
+    double meanMillis;
+
+    static GateStats of(Histogram micros, Map<String, Long> callsByPath, Map<Integer, Long> callsByCode) {
+        return new GateStats(
+                micros.getTotalCount(),
+                callsByPath,
+                callsByCode,
+                toMillis(micros.getValueAtPercentile(50)),
+                toMillis(micros.getValueAtPercentile(95)),
+                toMillis(micros.getValueAtPercentile(99)),
+                toMillis(micros.getMaxValue()),
+                micros.getTotalCount() == 0 ? 0 : micros.getMean() / 1000.0);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
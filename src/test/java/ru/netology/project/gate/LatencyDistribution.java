@@ -0,0 +1,47 @@
+package ru.netology.project.gate;
+
+import java.time.Duration;
+import java.util.Random;
+
+public interface LatencyDistribution {
+
+    Duration next(Random random);
+
+    static LatencyDistribution none() {
+        return fixed(0);
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        Duration latency = Duration.ofMillis(millis);
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> Duration.ofMillis(minMillis + (long) (random.nextDouble() * (maxMillis - minMillis)));
+    }
+
+    static LatencyDistribution exponential(long meanMillis) {
+        return random -> Duration.ofMillis((long) (-meanMillis * Math.log(1 - random.nextDouble())));
+    }
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equals("none")) {
+            return none();
+        }
+        String[] parts = spec.trim().split(":", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Latency must look like fixed:50, uniform:20-200 or exponential:100, got " + spec);
+        }
+        switch (parts[0]) {
+            case "fixed":
+                return fixed(Long.parseLong(parts[1]));
+            case "uniform":
+                String[] bounds = parts[1].split("-", 2);
+                return uniform(Long.parseLong(bounds[0]), Long.parseLong(bounds[1]));
+            case "exponential":
+                return exponential(Long.parseLong(parts[1]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + parts[0]);
+        }
+    }
+}
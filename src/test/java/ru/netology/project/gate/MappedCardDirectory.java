@@ -0,0 +1,105 @@
+package ru.netology.project.gate;
+
+import lombok.SneakyThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedCardDirectory implements CardDirectory {
+
+    static final int magic = 0x43415244;
+    static final int version = 1;
+    static final int headerBytes = 32;
+    static final int slotBytes = 9;
+    static final int maxSlotBits = 27;
+    static final int maxDigits = 17;
+    static final String[] statuses = {null, "APPROVED", "DECLINED"};
+
+    private final Path file;
+    private final ByteBuffer slots;
+    private final int mask;
+    private final long size;
+
+    private MappedCardDirectory(Path file, ByteBuffer slots, int slotBits, long size) {
+        this.file = file;
+        this.slots = slots;
+        this.mask = (1 << slotBits) - 1;
+        this.size = size;
+    }
+
+    @SneakyThrows
+    public static MappedCardDirectory open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != magic || buffer.getInt(4) != version) {
+                throw new IllegalArgumentException(file + " is not a card directory");
+            }
+            int slotBits = buffer.getInt(8);
+            if (slotBits < 1 || slotBits > maxSlotBits || channel.size() != headerBytes + ((long) slotBytes << slotBits)) {
+                throw new IllegalArgumentException(file + " is truncated or has an invalid header");
+            }
+            return new MappedCardDirectory(file, buffer, slotBits, buffer.getLong(16));
+        }
+    }
+
+    @Override
+    public String statusOf(String number) {
+        long key = encode(number);
+        if (key == 0) {
+            return null;
+        }
+        for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            int position = headerBytes + slot * slotBytes;
+            long stored = slots.getLong(position);
+            if (stored == 0) {
+                return null;
+            }
+            if (stored == key) {
+                int status = slots.get(position + Long.BYTES);
+                return status > 0 && status < statuses.length ? statuses[status] : null;
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return size + " cards mapped from " + file;
+    }
+
+    static long encode(String number) {
+        if (number == null) {
+            return 0;
+        }
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > maxDigits) {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return digits == 0 ? 0 : (value + 1) | ((long) digits << 58);
+    }
+
+    static int slotOf(long key, int mask) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
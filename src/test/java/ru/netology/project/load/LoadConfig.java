@@ -0,0 +1,39 @@
+package ru.netology.project.load;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Value
+@Builder
+public class LoadConfig {
+    String baseUrl;
+    LoadMode mode;
+    int users;
+    Duration duration;
+    Duration rampUp;
+    double ratePerSecond;
+    double approvedShare;
+    double creditShare;
+    long cards;
+    Duration requestTimeout;
+    Path outputDir;
+
+    public static LoadConfig fromSystemProperties() {
+        return LoadConfig.builder()
+                .baseUrl(System.getProperty("sut.url", "http://localhost:8080"))
+                .mode(LoadMode.valueOf(System.getProperty("load.mode", "closed_loop").toUpperCase()))
+                .users(Integer.getInteger("load.users", 10))
+                .duration(Duration.ofSeconds(Long.getLong("load.duration", 60)))
+                .rampUp(Duration.ofSeconds(Long.getLong("load.rampUp", 10)))
+                .ratePerSecond(Double.parseDouble(System.getProperty("load.rate", "20")))
+                .approvedShare(Double.parseDouble(System.getProperty("load.approvedShare", "0.5")))
+                .creditShare(Double.parseDouble(System.getProperty("load.creditShare", "0.5")))
+                .cards(Long.getLong("load.cards", 0))
+                .requestTimeout(Duration.ofMillis(Long.getLong("load.requestTimeout", 30_000)))
+                .outputDir(Path.of(System.getProperty("load.output", "build/load-results")))
+                .build();
+    }
+}
@@ -0,0 +1,6 @@
+package ru.netology.project.load;
+
+public enum LoadMode {
+    CLOSED_LOOP,
+    FIXED_RATE
+}
@@ -0,0 +1,33 @@
+package ru.netology.project.load;
+
+import ru.netology.project.data.APIHelper;
+
+public enum LoadOperation {
+    PAYMENT_APPROVED(APIHelper.PAYMENT_PATH, true),
+    PAYMENT_DECLINED(APIHelper.PAYMENT_PATH, false),
+    CREDIT_APPROVED(APIHelper.CREDIT_PATH, true),
+    CREDIT_DECLINED(APIHelper.CREDIT_PATH, false);
+
+    private final String path;
+    private final boolean approved;
+
+    LoadOperation(String path, boolean approved) {
+        this.path = path;
+        this.approved = approved;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isApproved() {
+        return approved;
+    }
+
+    public static LoadOperation of(boolean credit, boolean approved) {
+        if (credit) {
+            return approved ? CREDIT_APPROVED : CREDIT_DECLINED;
+        }
+        return approved ? PAYMENT_APPROVED : PAYMENT_DECLINED;
+    }
+}
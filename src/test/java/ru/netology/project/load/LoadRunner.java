@@ -0,0 +1,194 @@
+package ru.netology.project.load;
+
+import com.google.gson.Gson;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import ru.netology.project.data.APIHelper;
+import ru.netology.project.data.CardInfo;
+import ru.netology.project.data.DataUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class LoadRunner {
+
+    private static final int cardPoolSize = 256;
+    private static final Gson gson = new Gson();
+
+    private final LoadConfig config;
+    private final HttpClient client;
+    private final Map<LoadOperation, Histogram> latencies = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Histogram> errorLatencies = new EnumMap<>(LoadOperation.class);
+    private final List<String> approvedPayloads = new ArrayList<>();
+    private final List<String> declinedPayloads = new ArrayList<>();
+    private final List<CardInfo> templates = new ArrayList<>();
+
+    public LoadRunner(LoadConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(config.getRequestTimeout())
+                .build();
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(3));
+            errorLatencies.put(operation, new ConcurrentHistogram(3));
+        }
+        for (int i = 0; i < cardPoolSize; i++) {
+            approvedPayloads.add(toJson(DataUtils.getApprovedCardInfo()));
+            declinedPayloads.add(toJson(DataUtils.getDeclinedCardInfo()));
+            templates.add(DataUtils.getApprovedCardInfo());
+        }
+        if (config.getCards() == 1) {
+            throw new IllegalArgumentException("load.cards needs at least one approved and one declined card");
+        }
+    }
+
+    public static void main(String[] args) {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        LoadSummary summary = new LoadRunner(config).run();
+        summary.export(config.getOutputDir());
+        log.info("Load run {} finished: {}", summary.getRunId(), summary.getTotal());
+    }
+
+    @SneakyThrows
+    public LoadSummary run() {
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        log.info("Starting load run {} with {}", runId, config);
+        ExecutorService users = Executors.newFixedThreadPool(config.getUsers());
+        AtomicLong slots = new AtomicLong();
+        long start = System.nanoTime();
+        long end = start + config.getDuration().toNanos();
+
+        for (int user = 0; user < config.getUsers(); user++) {
+            long userStart = start + config.getRampUp().toNanos() * user / config.getUsers();
+            if (config.getMode() == LoadMode.CLOSED_LOOP) {
+                users.execute(() -> closedLoop(userStart, end));
+            } else {
+                users.execute(() -> fixedRate(start, end, slots));
+            }
+        }
+        users.shutdown();
+        long grace = config.getDuration().plus(config.getRequestTimeout()).toMillis() * 2;
+        boolean finished = users.awaitTermination(grace, TimeUnit.MILLISECONDS);
+        if (!finished) {
+            log.warn("Load run {}: users still running {} ms after the run should have ended, interrupting them;"
+                    + " requests in flight are not in the summary", runId, grace);
+            users.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return summarize(runId, elapsedSeconds, finished);
+    }
+
+    private void closedLoop(long userStart, long end) {
+        sleepUntil(userStart);
+        while (System.nanoTime() < end) {
+            execute(nextOperation(), System.nanoTime());
+        }
+    }
+
+    private void fixedRate(long start, long end, AtomicLong slots) {
+        while (true) {
+            long intended = start + scheduleOffsetNanos(slots.getAndIncrement());
+            if (intended >= end) {
+                return;
+            }
+            sleepUntil(intended);
+            execute(nextOperation(), intended);
+        }
+    }
+
+    private long scheduleOffsetNanos(long slot) {
+        double rate = config.getRatePerSecond();
+        double rampSeconds = config.getRampUp().toNanos() / 1e9;
+        double rampRequests = rate * rampSeconds / 2;
+        double seconds = slot < rampRequests
+                ? Math.sqrt(2 * rampSeconds * slot / rate)
+                : rampSeconds + (slot - rampRequests) / rate;
+        return (long) (seconds * 1e9);
+    }
+
+    private LoadOperation nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return LoadOperation.of(random.nextDouble() < config.getCreditShare(), random.nextDouble() < config.getApprovedShare());
+    }
+
+    private void execute(LoadOperation operation, long intendedStart) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getBaseUrl() + operation.getPath()))
+                .timeout(config.getRequestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(nextPayload(operation)))
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            record(response.statusCode() == 200 ? latencies : errorLatencies, operation, intendedStart);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            record(errorLatencies, operation, intendedStart);
+        }
+    }
+
+    private static void record(Map<LoadOperation, Histogram> histograms, LoadOperation operation, long intendedStart) {
+        histograms.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart));
+    }
+
+    private String nextPayload(LoadOperation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long cards = config.getCards();
+        if (cards <= 0) {
+            List<String> payloads = operation.isApproved() ? approvedPayloads : declinedPayloads;
+            return payloads.get(random.nextInt(payloads.size()));
+        }
+        String number = operation.isApproved()
+                ? DataUtils.getApprovedIndexedCard(random.nextLong((cards + 1) / 2))
+                : DataUtils.getDeclinedIndexedCard(random.nextLong(cards / 2));
+        return toJson(templates.get(random.nextInt(templates.size())).withNumber(number));
+    }
+
+    private LoadSummary summarize(String runId, double elapsedSeconds, boolean usersFinished) {
+        List<OperationStats> operations = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        Histogram totalErrors = new Histogram(3);
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = latencies.get(operation);
+            Histogram errorHistogram = errorLatencies.get(operation);
+            operations.add(OperationStats.of(operation.name(), histogram, errorHistogram, elapsedSeconds));
+            total.add(histogram);
+            totalErrors.add(errorHistogram);
+        }
+        return new LoadSummary(runId, config.getBaseUrl(), config.getMode(), config.getUsers(),
+                config.getMode() == LoadMode.FIXED_RATE ? config.getRatePerSecond() : 0,
+                elapsedSeconds, usersFinished, OperationStats.of("TOTAL", total, totalErrors, elapsedSeconds), operations);
+    }
+
+    private static String toJson(CardInfo card) {
+        return gson.toJson(APIHelper.toPayload(card));
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long delay = nanoTime - System.nanoTime();
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.netology.project.load;
+
+import com.google.gson.GsonBuilder;
+import lombok.SneakyThrows;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+@Value
+public class LoadSummary {
+    String runId;
+    String baseUrl;
+    LoadMode mode;
+    int users;
+    double targetRatePerSecond;
+    double elapsedSeconds;
+    boolean usersFinished;
+    OperationStats total;
+    List<OperationStats> operations;
+
+    @SneakyThrows
+    public void export(Path dir) {
+        Files.createDirectories(dir);
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(this);
+        Files.writeString(dir.resolve("load-" + runId + ".json"), json, StandardCharsets.UTF_8);
+
+        StringBuilder csv = new StringBuilder("operation,requests,errors,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms,mean_ms,error_p99_ms,error_max_ms\n");
+        for (OperationStats stats : operations) {
+            appendCsv(csv, stats);
+        }
+        appendCsv(csv, total);
+        Files.writeString(dir.resolve("load-" + runId + ".csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    private static void appendCsv(StringBuilder csv, OperationStats stats) {
+        csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                stats.getOperation(), stats.getRequests(), stats.getErrors(), stats.getThroughputPerSecond(),
+                stats.getP50Millis(), stats.getP95Millis(), stats.getP99Millis(),
+                stats.getMaxMillis(), stats.getMeanMillis(),
+                stats.getErrorP99Millis(), stats.getErrorMaxMillis()));
+    }
+}
@@ -0,0 +1,38 @@
+package ru.netology.project.load;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+@Value
+public class OperationStats {
+    String operation;
+    long requests;
+    long errors;
+    double throughputPerSecond;
+    double p50Millis;
+    double p95Millis;
+    double p99Millis;
+    double maxMillis;
+    double meanMillis;
+    double errorP99Millis;
+    double errorMaxMillis;
+
+    public static OperationStats of(String operation, Histogram micros, Histogram errorMicros, double seconds) {
+        return new OperationStats(
+                operation,
+                micros.getTotalCount(),
+                errorMicros.getTotalCount(),
+                micros.getTotalCount() / seconds,
+                toMillis(micros.getValueAtPercentile(50)),
+                toMillis(micros.getValueAtPercentile(95)),
+                toMillis(micros.getValueAtPercentile(99)),
+                toMillis(micros.getMaxValue()),
+                micros.getTotalCount() == 0 ? 0 : micros.getMean() / 1000.0,
+                toMillis(errorMicros.getValueAtPercentile(99)),
+                toMillis(errorMicros.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
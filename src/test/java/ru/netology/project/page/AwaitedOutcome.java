@@ -0,0 +1,11 @@
+package ru.netology.project.page;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+public class AwaitedOutcome {
+    Outcome outcome;
+    Duration elapsed;
+}
@@ -0,0 +1,26 @@
+package ru.netology.project.page;
+
+public enum Outcome {
+    SUCCESS("Операция одобрена Банком.", true),
+    ERROR("Ошибка! Банк отказал в проведении операции.", true),
+    INCORRECT_FORMAT("Неверный формат", false),
+    EXPIRATION_ERROR("Неверно указан срок действия карты", false),
+    EXPIRED("Истёк срок действия карты", false),
+    FIELD_REQUIRED("Поле обязательно для заполнения", false);
+
+    private final String text;
+    private final boolean notification;
+
+    Outcome(String text, boolean notification) {
+        this.text = text;
+        this.notification = notification;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isNotification() {
+        return notification;
+    }
+}
@@ -0,0 +1,276 @@
+package ru.netology.project.page;
+
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import ru.netology.project.data.CardInfo;
+import ru.netology.project.timing.Phase;
+import ru.netology.project.timing.PhaseTimer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.*;
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.$$;
+
+@Slf4j
+public class PaymentForm {
+
+    public enum FillMode {
+        SCRIPTED,
+        TYPING
+    }
+
+    public enum Mode {
+        CARD("Купить", "Оплата по карте"),
+        CREDIT("Купить в кредит", "Кредит по данным карты");
+
+        private final String buttonText;
+        private final String headText;
+
+        Mode(String buttonText, String headText) {
+            this.buttonText = buttonText;
+            this.headText = headText;
+        }
+    }
+
+    private enum Field {
+        NUMBER("Номер карты"),
+        MONTH("Месяц"),
+        YEAR("Год"),
+        OWNER("Владелец"),
+        CVC("CVC/CVV");
+
+        private final String label;
+
+        Field(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final String shownFunction =
+            "function shown(el) {"
+                    + "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {"
+                    + "    var style = window.getComputedStyle(node);"
+                    + "    if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') return false;"
+                    + "  }"
+                    + "  var rect = el.getBoundingClientRect();"
+                    + "  return rect.width > 0 && rect.height > 0;"
+                    + "}";
+
+    private static final String resetFormScript = shownFunction
+            + "var form = document.querySelector('form');"
+            + "if (!form) return false;"
+            + "var notifications = document.querySelectorAll('.notification');"
+            + "for (var i = 0; i < notifications.length; i++) {"
+            + "  var closer = notifications[i].querySelector('button');"
+            + "  if (closer && shown(notifications[i])) closer.click();"
+            + "}"
+            + "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+            + "var inputs = form.querySelectorAll('input');"
+            + "for (var j = 0; j < inputs.length; j++) {"
+            + "  if (inputs[j].value === '') continue;"
+            + "  setter.call(inputs[j], '');"
+            + "  inputs[j].dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  inputs[j].dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "return true;";
+
+    private static final String formIsCleanScript = shownFunction
+            + "var form = document.querySelector('form');"
+            + "if (!form) return false;"
+            + "var inputs = form.querySelectorAll('input');"
+            + "for (var i = 0; i < inputs.length; i++) {"
+            + "  if (inputs[i].value !== '') return false;"
+            + "}"
+            + "var notifications = document.querySelectorAll('.notification');"
+            + "for (var j = 0; j < notifications.length; j++) {"
+            + "  if (shown(notifications[j])) return false;"
+            + "}"
+            + "var messages = arguments[0];"
+            + "var nodes = form.querySelectorAll('*');"
+            + "for (var k = 0; k < nodes.length; k++) {"
+            + "  if (messages.indexOf(nodes[k].textContent.trim()) >= 0 && nodes[k].children.length === 0 && shown(nodes[k])) return false;"
+            + "}"
+            + "return true;";
+
+    private static final String inputSelector = "fieldset .input__control";
+
+    private static final String fillScript =
+            "var inputs = arguments[0].querySelectorAll(arguments[2]);"
+                    + "var values = arguments[1];"
+                    + "if (inputs.length !== values.length) throw new Error('expected ' + values.length + ' inputs, found ' + inputs.length);"
+                    + "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+                    + "for (var i = 0; i < inputs.length; i++) {"
+                    + "  if (values[i] === null) continue;"
+                    + "  var input = inputs[i];"
+                    + "  input.focus();"
+                    + "  setter.call(input, values[i]);"
+                    + "  input.dispatchEvent(new Event('input', {bubbles: true}));"
+                    + "  input.dispatchEvent(new Event('change', {bubbles: true}));"
+                    + "  input.blur();"
+                    + "}";
+
+    private static final String outcomeScript = shownFunction
+            + "var texts = arguments[0];"
+            + "var notifications = arguments[1];"
+            + "for (var i = 0; i < texts.length; i++) {"
+            + "  var found = document.evaluate(\".//*[normalize-space(text())='\" + texts[i] + \"']\","
+            + "      document.body, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  for (var j = 0; j < found.snapshotLength; j++) {"
+            + "    var el = found.snapshotItem(j);"
+            + "    var target = notifications[i] ? el.parentElement.querySelector(\"[class='notification__content']\") : el;"
+            + "    if (target && shown(target)) return i;"
+            + "  }"
+            + "}"
+            + "return -1;";
+
+    private static final List<String> validationMessages = List.of(
+            Outcome.INCORRECT_FORMAT.getText(),
+            Outcome.EXPIRATION_ERROR.getText(),
+            Outcome.EXPIRED.getText(),
+            Outcome.FIELD_REQUIRED.getText());
+    private static final List<String> outcomeTexts = new ArrayList<>();
+    private static final List<Boolean> outcomeNotifications = new ArrayList<>();
+
+    static {
+        for (Outcome outcome : Outcome.values()) {
+            outcomeTexts.add(outcome.getText());
+            outcomeNotifications.add(outcome.isNotification());
+        }
+    }
+
+    private static final Duration outcomeTimeout = Duration.ofSeconds(10);
+    private static final Duration outcomePolling = Duration.ofMillis(50);
+
+    private static final boolean reuseSession = Boolean.getBoolean("session.reuse");
+    private static final Duration resetTimeout = Duration.ofSeconds(2);
+
+    private final Mode mode;
+    private final SelenideElement mainHead = $$("h2").find(exactText("Путешествие дня"));
+    private final SelenideElement modeButton;
+    private final SelenideElement modeHead;
+    private final SelenideElement continueButton = $$("button").find(exactText("Продолжить"));
+    private final SelenideElement form = $("form");
+    private final ElementsCollection inputs = form.$$(inputSelector);
+    private long submittedAt;
+
+    public PaymentForm(Mode mode) {
+        this.mode = mode;
+        this.modeButton = $$("button").find(exactText(mode.buttonText));
+        this.modeHead = $$("h3").find(exactText(mode.headText));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void load(String url) {
+        PhaseTimer.time(Phase.OPEN_PAGE, () -> {
+            if (reuseSession && isOnPage(url) && resetInPlace()) {
+                return;
+            }
+            Selenide.open(url);
+            openForm();
+        });
+    }
+
+    public void openForm() {
+        mainHead.shouldBe(visible);
+        modeButton.click();
+        modeHead.shouldBe(visible);
+    }
+
+    public void fill(CardInfo card, FillMode fillMode) {
+        PhaseTimer.time(Phase.FILL_FORM, () -> fillFields(card, fillMode));
+    }
+
+    private void fillFields(CardInfo card, FillMode fillMode) {
+        List<String> values = Arrays.asList(card.getNumber(), card.getMonth(), card.getYear(), card.getHolder(), card.getCvc());
+        if (fillMode == FillMode.TYPING) {
+            for (Field field : Field.values()) {
+                String value = values.get(field.ordinal());
+                if (value != null) {
+                    setValue(field, value);
+                }
+            }
+            return;
+        }
+        String number = values.set(Field.NUMBER.ordinal(), null);
+        SelenideLogger.step("Заполнить форму " + card,
+                () -> Selenide.executeJavaScript(fillScript, form.shouldBe(visible).toWebElement(), values, inputSelector));
+        if (number != null) {
+            setValue(Field.NUMBER, number);
+        }
+    }
+
+    public void cardNumberShouldBe(String formatted) {
+        inputs.get(Field.NUMBER.ordinal()).shouldHave(exactValue(formatted));
+    }
+
+    public void clickContinueButton() {
+        PhaseTimer.time(Phase.SUBMIT, () -> continueButton.click());
+        submittedAt = System.nanoTime();
+    }
+
+    public AwaitedOutcome awaitOutcome() {
+        return PhaseTimer.time(Phase.NOTIFICATION_WAIT, () -> {
+            long start = submittedAt != 0 ? submittedAt : System.nanoTime();
+            Long index;
+            try {
+                index = Selenide.Wait()
+                        .withTimeout(outcomeTimeout)
+                        .pollingEvery(outcomePolling)
+                        .until(driver -> {
+                            Long found = Selenide.executeJavaScript(outcomeScript, outcomeTexts, outcomeNotifications);
+                            return found != null && found >= 0 ? found : null;
+                        });
+            } catch (TimeoutException e) {
+                throw new AssertionError("Neither a notification nor a validation message appeared within "
+                        + outcomeTimeout.toSeconds() + " s on the " + mode + " form", e);
+            }
+            AwaitedOutcome outcome = new AwaitedOutcome(Outcome.values()[index.intValue()], Duration.ofNanos(System.nanoTime() - start));
+            log.info("{} form outcome {} after {} ms", mode, outcome.getOutcome(), outcome.getElapsed().toMillis());
+            return outcome;
+        });
+    }
+
+    public void outcomeHidden(Outcome outcome) {
+        PhaseTimer.time(Phase.NOTIFICATION_WAIT, () -> $(byText(outcome.getText())).shouldBe(hidden));
+    }
+
+    private boolean isOnPage(String url) {
+        return WebDriverRunner.hasWebDriverStarted() && WebDriverRunner.url().startsWith(url);
+    }
+
+    private boolean resetInPlace() {
+        try {
+            if (!Boolean.TRUE.equals(Selenide.executeJavaScript(resetFormScript))) {
+                return false;
+            }
+            modeButton.click();
+            modeHead.shouldBe(visible);
+            Selenide.Wait()
+                    .withTimeout(resetTimeout)
+                    .until(driver -> Boolean.TRUE.equals(Selenide.executeJavaScript(formIsCleanScript, validationMessages)));
+            return true;
+        } catch (WebDriverException | AssertionError e) {
+            log.info("In-place reset of the {} form failed, reloading the page: {}", mode, e.getMessage());
+            return false;
+        }
+    }
+
+    private void setValue(Field field, String value) {
+        PhaseTimer.time(Phase.FILL_FORM, () -> SelenideLogger.step(field.label + " = " + value,
+                () -> inputs.get(field.ordinal()).setValue(value)));
+    }
+}
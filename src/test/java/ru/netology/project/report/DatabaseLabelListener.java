@@ -0,0 +1,39 @@
+package ru.netology.project.report;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import ru.netology.project.data.DatabaseDialect;
+
+import java.util.Locale;
+
+public class DatabaseLabelListener implements TestLifecycleListener {
+
+    @Override
+    public void beforeTestStop(TestResult result) {
+        String database = resolveDatabase();
+        if (database == null) {
+            return;
+        }
+        result.getLabels().add(ResultsUtils.createParentSuiteLabel(database));
+        result.getLabels().add(ResultsUtils.createTagLabel(database));
+        result.getLabels().add(ResultsUtils.createLabel("database", database));
+        result.getParameters().add(new Parameter().setName("database").setValue(database));
+        if (result.getHistoryId() != null) {
+            result.setHistoryId(ResultsUtils.md5(result.getHistoryId() + ":" + database));
+        }
+    }
+
+    private static String resolveDatabase() {
+        String leg = System.getProperty("matrix.leg");
+        if (leg != null && !leg.isBlank()) {
+            return leg;
+        }
+        try {
+            return DatabaseDialect.current().name().toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
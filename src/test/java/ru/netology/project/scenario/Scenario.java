@@ -0,0 +1,40 @@
+package ru.netology.project.scenario;
+
+import lombok.Value;
+import ru.netology.project.data.CardInfo;
+import ru.netology.project.page.Outcome;
+import ru.netology.project.page.PaymentForm.FillMode;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Value
+public class Scenario {
+    String id;
+    String name;
+    List<Supplier<String>> fields;
+    FillMode fill;
+    Outcome outcome;
+    Set<Outcome> hidden;
+    String status;
+    Long orders;
+
+    public CardInfo generateCard() {
+        return new CardInfo(
+                fields.get(0).get(),
+                fields.get(1).get(),
+                fields.get(2).get(),
+                fields.get(3).get(),
+                fields.get(4).get());
+    }
+
+    public boolean isWriter() {
+        return status != null;
+    }
+
+    @Override
+    public String toString() {
+        return id + "_" + name;
+    }
+}
@@ -0,0 +1,184 @@
+package ru.netology.project.scenario;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.params.provider.Arguments;
+import ru.netology.project.data.DataUtils;
+import ru.netology.project.page.Outcome;
+import ru.netology.project.page.PaymentForm.FillMode;
+import ru.netology.project.page.PaymentForm.Mode;
+import ru.netology.project.shard.ShardPlan;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class ScenarioTable {
+
+    public static final String DISPLAY_NAME = "{0} {1}";
+
+    private static final String resource = System.getProperty("scenarios.table", "scenarios.csv");
+    private static final String separator = ";";
+    private static final List<String> columns = List.of(
+            "id", "name", "number", "month", "year", "holder", "cvc", "fill", "outcome", "hidden", "status", "orders");
+    private static final List<String> cardColumns = columns.subList(2, 7);
+
+    private static final List<Scenario> scenarios = load(resource);
+
+    private ScenarioTable() {
+    }
+
+    public static List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    public static Stream<Arguments> writers() {
+        return arguments(true);
+    }
+
+    public static Stream<Arguments> validations() {
+        return arguments(false);
+    }
+
+    public static List<String> keys(String factory) {
+        if (!factory.equals("writers") && !factory.equals("validations")) {
+            throw new IllegalArgumentException("Unknown scenario factory " + factory);
+        }
+        boolean writer = factory.equals("writers");
+        List<String> keys = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            if (scenario.isWriter() == writer) {
+                for (Mode mode : Mode.values()) {
+                    keys.add(key(mode, scenario));
+                }
+            }
+        }
+        return keys;
+    }
+
+    public static String key(Mode mode, Scenario scenario) {
+        return mode + " " + scenario;
+    }
+
+    private static Stream<Arguments> arguments(boolean writer) {
+        return scenarios.stream()
+                .filter(scenario -> scenario.isWriter() == writer)
+                .flatMap(scenario -> Arrays.stream(Mode.values())
+                        .filter(mode -> ShardPlan.owns(key(mode, scenario)))
+                        .map(mode -> Arguments.of(mode, scenario)));
+    }
+
+    @SneakyThrows
+    static List<Scenario> load(String resource) {
+        InputStream stream = ScenarioTable.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IllegalStateException("Scenario table " + resource + " is not on the test classpath");
+        }
+        List<Scenario> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cells = line.split(separator, -1);
+                if (header == null) {
+                    header = header(cells, resource);
+                    continue;
+                }
+                try {
+                    result.add(parse(cells, header));
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException(resource + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static Map<String, Integer> header(String[] cells, String resource) {
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < cells.length; i++) {
+            header.put(cells[i].trim(), i);
+        }
+        for (String column : columns) {
+            if (!header.containsKey(column)) {
+                throw new IllegalStateException("Scenario table " + resource + " has no '" + column + "' column");
+            }
+        }
+        return header;
+    }
+
+    private static Scenario parse(String[] cells, Map<String, Integer> header) {
+        List<Supplier<String>> fields = new ArrayList<>();
+        for (String column : cardColumns) {
+            fields.add(generator(cell(cells, header, column)));
+        }
+        String fill = cell(cells, header, "fill");
+        String status = cell(cells, header, "status");
+        String orders = cell(cells, header, "orders");
+        return new Scenario(
+                cell(cells, header, "id"),
+                cell(cells, header, "name"),
+                Collections.unmodifiableList(fields),
+                fill.isEmpty() ? FillMode.SCRIPTED : FillMode.valueOf(fill),
+                Outcome.valueOf(cell(cells, header, "outcome")),
+                outcomes(cell(cells, header, "hidden")),
+                status.isEmpty() ? null : status,
+                orders.isEmpty() ? null : Long.valueOf(orders));
+    }
+
+    private static String cell(String[] cells, Map<String, Integer> header, String column) {
+        int index = header.get(column);
+        if (index >= cells.length) {
+            throw new IllegalArgumentException("missing value for '" + column + "'");
+        }
+        return cells[index].trim();
+    }
+
+    private static Set<Outcome> outcomes(String cell) {
+        Set<Outcome> result = EnumSet.noneOf(Outcome.class);
+        if (!cell.isEmpty()) {
+            for (String name : cell.split(",")) {
+                result.add(Outcome.valueOf(name.trim()));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static Supplier<String> generator(String name) {
+        if (name.isEmpty()) {
+            return () -> null;
+        }
+        Method method;
+        try {
+            method = DataUtils.class.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("DataUtils has no generator " + name + "()", e);
+        }
+        if (!Modifier.isStatic(method.getModifiers()) || method.getReturnType() != String.class) {
+            throw new IllegalArgumentException("DataUtils." + name + "() is not a static String generator");
+        }
+        return () -> invoke(method);
+    }
+
+    @SneakyThrows
+    private static String invoke(Method method) {
+        return (String) method.invoke(null);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.netology.project.shard;
+
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+public class DurationHistory {
+
+    private static final double smoothing = 0.5;
+
+    private final Path file;
+
+    public DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    public static DurationHistory fromSystemProperties() {
+        String file = System.getProperty("shard.durations");
+        return file == null || file.isBlank() ? null : new DurationHistory(Paths.get(file));
+    }
+
+    @SneakyThrows
+    public Map<String, Double> load() {
+        if (!Files.exists(file)) {
+            return Collections.emptyMap();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             FileLock lock = channel.lock(0, Long.MAX_VALUE, true)) {
+            return parse(read(channel));
+        }
+    }
+
+    @SneakyThrows
+    public void record(Map<String, Double> measured) {
+        if (measured.isEmpty()) {
+            return;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            Map<String, Double> durations = parse(read(channel));
+            for (Map.Entry<String, Double> entry : measured.entrySet()) {
+                durations.merge(entry.getKey(), entry.getValue(), (old, current) -> old * (1 - smoothing) + current * smoothing);
+            }
+            Properties properties = new Properties();
+            durations.forEach((key, millis) -> properties.setProperty(key, String.format(Locale.ROOT, "%.1f", millis)));
+            StringWriter writer = new StringWriter();
+            properties.store(writer, "Smoothed test durations in milliseconds, used to balance shards");
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(writer.toString().getBytes(StandardCharsets.UTF_8)), 0);
+        }
+    }
+
+    private static String read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Double> parse(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        Map<String, Double> durations = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Double.parseDouble(properties.getProperty(key)));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,54 @@
+package ru.netology.project.shard;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DurationRecorder implements TestExecutionListener {
+
+    private static final String invocationSegment = "test-template-invocation";
+
+    private final DurationHistory history = DurationHistory.fromSystemProperties();
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Double> measured = new ConcurrentHashMap<>();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        ShardPlan.requireInstalled();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        if (history != null && identifier.isTest()) {
+            started.put(identifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        Long start = started.remove(identifier.getUniqueId());
+        if (start == null || result.getStatus() == TestExecutionResult.Status.ABORTED) {
+            return;
+        }
+        measured.put(key(identifier), (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (history != null) {
+            history.record(measured);
+            measured.clear();
+        }
+    }
+
+    private static String key(TestIdentifier identifier) {
+        if (identifier.getUniqueIdObject().getLastSegment().getType().equals(invocationSegment)) {
+            return identifier.getDisplayName();
+        }
+        return identifier.getUniqueId();
+    }
+}
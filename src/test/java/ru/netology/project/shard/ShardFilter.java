@@ -0,0 +1,91 @@
+package ru.netology.project.shard;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import ru.netology.project.scenario.ScenarioTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final String scenarioFactory = ScenarioTable.class.getName() + "#";
+
+    private final Set<TestDescriptor> planned = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!ShardPlan.isEnabled()) {
+            return FilterResult.included("sharding is disabled");
+        }
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        if (planned.add(root)) {
+            plan(root);
+        }
+        if (descriptor.isTest()) {
+            return owned(descriptor.getUniqueId().toString());
+        }
+        List<String> scenarios = scenarioKeys(descriptor);
+        if (scenarios.isEmpty()) {
+            return FilterResult.included("container");
+        }
+        for (String key : scenarios) {
+            if (ShardPlan.owns(key)) {
+                return FilterResult.included("owns scenarios of this template");
+            }
+        }
+        return FilterResult.excluded("all scenarios of this template belong to other shards");
+    }
+
+    private static FilterResult owned(String key) {
+        return ShardPlan.owns(key)
+                ? FilterResult.included("assigned to this shard")
+                : FilterResult.excluded("assigned to another shard");
+    }
+
+    private static void plan(TestDescriptor root) {
+        List<String> keys = new ArrayList<>();
+        for (TestDescriptor descriptor : root.getDescendants()) {
+            if (descriptor.isTest()) {
+                keys.add(descriptor.getUniqueId().toString());
+            } else {
+                keys.addAll(scenarioKeys(descriptor));
+            }
+        }
+        DurationHistory history = DurationHistory.fromSystemProperties();
+        Map<String, Double> durations = history == null ? Collections.emptyMap() : history.load();
+        ShardPlan.install(keys, durations);
+    }
+
+    private static List<String> scenarioKeys(TestDescriptor descriptor) {
+        TestSource source = descriptor.getSource().orElse(null);
+        if (!(source instanceof MethodSource)) {
+            return Collections.emptyList();
+        }
+        org.junit.jupiter.params.provider.MethodSource factories;
+        try {
+            factories = ((MethodSource) source).getJavaMethod().getAnnotation(org.junit.jupiter.params.provider.MethodSource.class);
+        } catch (RuntimeException e) {
+            return Collections.emptyList();
+        }
+        List<String> keys = new ArrayList<>();
+        if (factories != null) {
+            for (String factory : factories.value()) {
+                if (factory.startsWith(scenarioFactory)) {
+                    keys.addAll(ScenarioTable.keys(factory.substring(scenarioFactory.length())));
+                }
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.netology.project.shard;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Slf4j
+public class ShardPlan {
+
+    private static final double defaultMillis = 1000;
+
+    private static final int count = Integer.getInteger("shard.count", 1);
+    private static final int index = Integer.getInteger("shard.index", 0);
+
+    private static volatile ShardPlan current;
+
+    private final Set<String> owned;
+    private final double[] loads;
+
+    private ShardPlan(Set<String> owned, double[] loads) {
+        this.owned = owned;
+        this.loads = loads;
+    }
+
+    public static boolean isEnabled() {
+        return count > 1;
+    }
+
+    public static boolean owns(String key) {
+        ShardPlan plan = current;
+        if (plan == null) {
+            requireInstalled();
+            return true;
+        }
+        return plan.owned.contains(key);
+    }
+
+    static void requireInstalled() {
+        if (isEnabled() && current == null) {
+            throw new IllegalStateException("shard.count is " + count + " but no shard plan was installed;"
+                    + " ShardFilter runs only with junit.platform.postDiscoveryFilters.autodetection.enabled=true");
+        }
+    }
+
+    static void install(Collection<String> keys, Map<String, Double> durations) {
+        if (index < 0 || index >= count) {
+            throw new IllegalStateException("shard.index " + index + " is outside 0.." + (count - 1));
+        }
+        current = plan(keys, durations, count, index);
+        log.info("Shard {}/{}: {} of {} tests, estimated {} ms; all shards {}",
+                index + 1, count, current.owned.size(), keys.size(), Math.round(current.loads[index]), current.describeLoads());
+    }
+
+    static ShardPlan plan(Collection<String> keys, Map<String, Double> durations, int count, int index) {
+        double fallback = median(keys, durations);
+        List<String> ordered = new ArrayList<>(new TreeSet<>(keys));
+        ordered.sort(Comparator.comparingDouble((String key) -> durations.getOrDefault(key, fallback)).reversed());
+        double[] loads = new double[count];
+        Set<String> owned = new HashSet<>();
+        for (String key : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += durations.getOrDefault(key, fallback);
+            if (lightest == index) {
+                owned.add(key);
+            }
+        }
+        return new ShardPlan(owned, loads);
+    }
+
+    private static double median(Collection<String> keys, Map<String, Double> durations) {
+        List<Double> known = new ArrayList<>();
+        for (String key : keys) {
+            Double millis = durations.get(key);
+            if (millis != null) {
+                known.add(millis);
+            }
+        }
+        if (known.isEmpty()) {
+            return defaultMillis;
+        }
+        known.sort(null);
+        return known.get(known.size() / 2);
+    }
+
+    private String describeLoads() {
+        List<Long> rounded = new ArrayList<>();
+        for (double load : loads) {
+            rounded.add(Math.round(load));
+        }
+        return rounded.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package ru.netology.project.test;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import ru.netology.project.data.APIHelper;
+import ru.netology.project.data.AwaitedRows;
+import ru.netology.project.data.CreditRow;
+import ru.netology.project.data.DataUtils;
+import ru.netology.project.data.DatabaseHelper;
+import ru.netology.project.data.DatabaseLock;
+import ru.netology.project.data.DatabaseSeedExtension;
+import ru.netology.project.data.EmbeddedDatabaseExtension;
+import ru.netology.project.data.EntityReader;
+import ru.netology.project.data.EntityRows;
+import ru.netology.project.data.PaymentRow;
+import ru.netology.project.gate.GateSimulator;
+import ru.netology.project.gate.GateSimulatorExtension;
+import ru.netology.project.timing.PhaseTimingExtension;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("api")
+@ExtendWith({EmbeddedDatabaseExtension.class, GateSimulatorExtension.class, DatabaseSeedExtension.class, PhaseTimingExtension.class})
+public class ApiTest {
+
+    @AfterEach
+    public void cleanDataBase() {
+        DatabaseHelper.cleanDatabase();
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_01_Оплата картой одобрена (статус APPROVED)")
+    public void shouldApprovePayment() {
+        EntityReader entities = EntityReader.mark();
+        long gateMark = gateMark();
+        assertEquals("APPROVED", APIHelper.getPaymentStatus(DataUtils.getApprovedCardInfo()));
+        EntityRows rows = report(DatabaseHelper.awaitPayment(entities, true));
+        PaymentRow payment = rows.singlePayment();
+        assertEquals("APPROVED", payment.getStatus());
+        assertEquals(1, rows.getOrders().size());
+        assertTrue(rows.orderFor(payment).isPresent());
+        assertSingleGateCall(gateMark, "spring.payment-gate.url");
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_02_Оплата картой отклонена (статус DECLINED)")
+    public void shouldDeclinePayment() {
+        EntityReader entities = EntityReader.mark();
+        long gateMark = gateMark();
+        assertEquals("DECLINED", APIHelper.getPaymentStatus(DataUtils.getDeclinedCardInfo()));
+        assertEquals("DECLINED", report(DatabaseHelper.awaitPayment(entities, false)).singlePayment().getStatus());
+        assertSingleGateCall(gateMark, "spring.payment-gate.url");
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_03_Оплата неизвестной картой не создает заказ")
+    public void shouldRejectPaymentWithUnknownCard() {
+        EntityReader entities = EntityReader.mark();
+        int statusCode = APIHelper.sendPayment(DataUtils.getCardInfo(DataUtils.getCardNumber15Digits())).getStatusCode();
+        assertNotEquals(200, statusCode, "unknown card accepted");
+        assertNoNewRows(entities.read());
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_04_Кредит одобрен (статус APPROVED)")
+    public void shouldApproveCredit() {
+        EntityReader entities = EntityReader.mark();
+        long gateMark = gateMark();
+        assertEquals("APPROVED", APIHelper.getCreditStatus(DataUtils.getApprovedCardInfo()));
+        EntityRows rows = report(DatabaseHelper.awaitCredit(entities, true));
+        CreditRow credit = rows.singleCredit();
+        assertEquals("APPROVED", credit.getStatus());
+        assertEquals(1, rows.getOrders().size());
+        assertTrue(rows.orderFor(credit).isPresent());
+        assertSingleGateCall(gateMark, "spring.credit-gate.url");
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_05_Кредит отклонен (статус DECLINED)")
+    public void shouldDeclineCredit() {
+        EntityReader entities = EntityReader.mark();
+        long gateMark = gateMark();
+        assertEquals("DECLINED", APIHelper.getCreditStatus(DataUtils.getDeclinedCardInfo()));
+        assertEquals("DECLINED", report(DatabaseHelper.awaitCredit(entities, false)).singleCredit().getStatus());
+        assertSingleGateCall(gateMark, "spring.credit-gate.url");
+    }
+
+    @Test
+    @ResourceLock(DatabaseLock.TABLES)
+    @DisplayName("API_06_Кредит по неизвестной карте не создает заказ")
+    public void shouldRejectCreditWithUnknownCard() {
+        EntityReader entities = EntityReader.mark();
+        int statusCode = APIHelper.sendCredit(DataUtils.getCardInfo(DataUtils.getCardNumber15Digits())).getStatusCode();
+        assertNotEquals(200, statusCode, "unknown card accepted");
+        assertNoNewRows(entities.read());
+    }
+
+    private static EntityRows report(AwaitedRows awaited) {
+        Allure.addAttachment("DB rows", "text/plain", "visible after " + awaited.getElapsed().toMillis() + " ms ("
+                + awaited.getAttempts() + " queries)\n" + awaited.getRows());
+        return awaited.getRows();
+    }
+
+    private static void assertNoNewRows(EntityRows rows) {
+        assertEquals(List.of(), rows.getPayments(), "payment rows");
+        assertEquals(List.of(), rows.getCredits(), "credit rows");
+        assertEquals(List.of(), rows.getOrders(), "order rows");
+    }
+
+    private static long gateMark() {
+        GateSimulator gate = GateSimulatorExtension.getSimulator();
+        return gate == null ? 0 : gate.getJournal().mark();
+    }
+
+    private static void assertSingleGateCall(long mark, String gateUrl) {
+        GateSimulator gate = GateSimulatorExtension.getSimulator();
+        if (gate != null) {
+            assertEquals(URI.create(System.getProperty(gateUrl)).getPath(), gate.getJournal().single(mark).getPath());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package ru.netology.project.test;
+
+import com.codeborne.selenide.logevents.SelenideLogger;
+import io.qameta.allure.Allure;
+import io.qameta.allure.selenide.AllureSelenide;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import ru.netology.project.browser.BackendCall;
+import ru.netology.project.browser.BrowserNetwork;
+import ru.netology.project.browser.WebDriverPoolExtension;
+import ru.netology.project.data.APIHelper;
+import ru.netology.project.data.AwaitedRows;
+import ru.netology.project.data.CardInfo;
+import ru.netology.project.data.CreditRow;
+import ru.netology.project.data.DatabaseHelper;
+import ru.netology.project.data.DatabaseLock;
+import ru.netology.project.data.DatabaseSeedExtension;
+import ru.netology.project.data.EmbeddedDatabaseExtension;
+import ru.netology.project.data.EntityReader;
+import ru.netology.project.data.EntityRows;
+import ru.netology.project.data.OrderRow;
+import ru.netology.project.data.PaymentRow;
+import ru.netology.project.gate.GateCall;
+import ru.netology.project.gate.GateJournal;
+import ru.netology.project.gate.GateSimulator;
+import ru.netology.project.gate.GateSimulatorExtension;
+import ru.netology.project.page.AwaitedOutcome;
+import ru.netology.project.page.Outcome;
+import ru.netology.project.page.PaymentForm;
+import ru.netology.project.page.PaymentForm.Mode;
+import ru.netology.project.scenario.Scenario;
+import ru.netology.project.scenario.ScenarioTable;
+import ru.netology.project.timing.PhaseTimingExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith({WebDriverPoolExtension.class, EmbeddedDatabaseExtension.class, GateSimulatorExtension.class, DatabaseSeedExtension.class, PhaseTimingExtension.class})
+public class PurchaseScenarioTest {
+
+    String url = System.getProperty("sut.url");
+
+    @BeforeEach
+    public void addListener() {
+        SelenideLogger.addListener("allure", new AllureSelenide());
+    }
+
+    @AfterEach
+    public void removeListener() {
+        SelenideLogger.removeListener("allure");
+    }
+
+    @ParameterizedTest(name = ScenarioTable.DISPLAY_NAME)
+    @MethodSource("ru.netology.project.scenario.ScenarioTable#writers")
+    @ResourceLock(DatabaseLock.TABLES)
+    public void shouldProcessPurchase(Mode mode, Scenario scenario) {
+        try {
+            run(mode, scenario);
+        } finally {
+            DatabaseHelper.cleanDatabase();
+        }
+    }
+
+    @ParameterizedTest(name = ScenarioTable.DISPLAY_NAME)
+    @MethodSource("ru.netology.project.scenario.ScenarioTable#validations")
+    @ResourceLock(value = DatabaseLock.TABLES, mode = ResourceAccessMode.READ)
+    public void shouldRejectPurchase(Mode mode, Scenario scenario) {
+        run(mode, scenario);
+    }
+
+    private void run(Mode mode, Scenario scenario) {
+        PaymentForm form = new PaymentForm(mode);
+        form.load(url);
+        EntityReader entities = EntityReader.mark();
+        GateSimulator gate = GateSimulatorExtension.getSimulator();
+        long gateMark = gate == null ? 0 : gate.getJournal().mark();
+        CardInfo card = scenario.generateCard();
+        form.fill(card, scenario.getFill());
+        if (scenario.isWriter()) {
+            form.cardNumberShouldBe(APIHelper.formatCardNumber(card.getNumber()));
+        }
+        form.clickContinueButton();
+        AwaitedOutcome awaited = form.awaitOutcome();
+        assertEquals(scenario.getOutcome(), awaited.getOutcome());
+        for (Outcome outcome : scenario.getHidden()) {
+            form.outcomeHidden(outcome);
+        }
+        verifyBackendCalls(mode, scenario);
+        verifyEntities(mode, scenario, entities);
+        if (gate != null) {
+            verifyGateCalls(mode, scenario, card, gate.getJournal(), gateMark, awaited);
+        }
+    }
+
+    private void verifyBackendCalls(Mode mode, Scenario scenario) {
+        if (!BrowserNetwork.isEnabled()) {
+            return;
+        }
+        List<BackendCall> calls = BrowserNetwork.backendCalls();
+        Allure.addAttachment("Backend calls", "text/plain", calls.stream()
+                .map(BackendCall::toString)
+                .collect(Collectors.joining("\n", "", "\nblocked asset requests: " + BrowserNetwork.blockedRequests())));
+        if (!scenario.isWriter()) {
+            assertEquals(List.of(), calls, "backend calls for a rejected form");
+            return;
+        }
+        assertEquals(1, calls.size(), "backend calls per purchase: " + calls);
+        BackendCall call = calls.get(0);
+        assertEquals(mode == Mode.CREDIT ? APIHelper.CREDIT_PATH : APIHelper.PAYMENT_PATH, call.getPath());
+        assertEquals(200, call.getStatus(), "backend response: " + call.getBody());
+    }
+
+    private void verifyGateCalls(Mode mode, Scenario scenario, CardInfo card, GateJournal journal, long mark, AwaitedOutcome awaited) {
+        if (!scenario.isWriter()) {
+            assertEquals(List.of(), journal.since(mark, card.getNumber()), "gate calls for a rejected form");
+            return;
+        }
+        GateCall call = journal.single(mark);
+        assertEquals(APIHelper.formatCardNumber(card.getNumber()), call.getCard(), "card number submitted to the gate");
+        String gateUrl = mode == Mode.CREDIT ? "spring.credit-gate.url" : "spring.payment-gate.url";
+        assertEquals(URI.create(System.getProperty(gateUrl)).getPath(), call.getPath());
+        Duration overhead = awaited.getElapsed().minus(call.getServiceTime());
+        Allure.addAttachment("Gate call", "text/plain", call
+                + "\nsubmit to outcome: " + awaited.getElapsed().toMillis() + " ms"
+                + "\ngate decision time: " + call.getDecisionTime().toMillis() + " ms"
+                + "\ngate service time (response written): " + call.getServiceTime().toMillis() + " ms"
+                + "\nSUT and browser overhead: " + overhead.toMillis() + " ms");
+    }
+
+    private void verifyEntities(Mode mode, Scenario scenario, EntityReader entities) {
+        Long orders = scenario.getOrders();
+        if (scenario.getStatus() == null) {
+            if (orders != null) {
+                assertEquals(orders.longValue(), entities.read().getOrders().size());
+            }
+            return;
+        }
+        AwaitedRows awaited = DatabaseHelper.awaitRows(entities, found -> !(mode == Mode.CREDIT ? found.getCredits() : found.getPayments()).isEmpty()
+                && (orders == null || found.getOrders().size() >= orders));
+        Allure.addAttachment("DB rows", "text/plain", "visible after " + awaited.getElapsed().toMillis() + " ms ("
+                + awaited.getAttempts() + " queries)\n" + awaited.getRows());
+        EntityRows rows = awaited.getRows();
+        Optional<OrderRow> order;
+        if (mode == Mode.CREDIT) {
+            CreditRow credit = rows.singleCredit();
+            assertEquals(scenario.getStatus(), credit.getStatus());
+            order = rows.orderFor(credit);
+        } else {
+            PaymentRow payment = rows.singlePayment();
+            assertEquals(scenario.getStatus(), payment.getStatus());
+            order = rows.orderFor(payment);
+        }
+        if (orders != null) {
+            assertEquals(orders.longValue(), rows.getOrders().size());
+            assertEquals(orders > 0, order.isPresent(), "order linked to the " + mode + " row");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ru.netology.project.timing;
+
+public enum Phase {
+    OPEN_PAGE,
+    FILL_FORM,
+    SUBMIT,
+    NOTIFICATION_WAIT,
+    DB_ASSERTION,
+    CLEAN_DATABASE
+}
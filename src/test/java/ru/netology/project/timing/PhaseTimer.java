@@ -0,0 +1,50 @@
+package ru.netology.project.timing;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class PhaseTimer {
+
+    private static final ThreadLocal<Recording> current = new ThreadLocal<>();
+
+    private PhaseTimer() {
+    }
+
+    public static void time(Phase phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T time(Phase phase, Supplier<T> action) {
+        Recording recording = current.get();
+        if (recording == null || recording.active != null) {
+            return action.get();
+        }
+        recording.active = phase;
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recording.nanos.merge(phase, System.nanoTime() - start, Long::sum);
+            recording.active = null;
+        }
+    }
+
+    static void start() {
+        current.set(new Recording());
+    }
+
+    static Map<Phase, Long> stop() {
+        Recording recording = current.get();
+        current.remove();
+        return recording == null ? Map.of() : recording.nanos;
+    }
+
+    private static class Recording {
+        private final Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+        private Phase active;
+    }
+}
@@ -0,0 +1,90 @@
+package ru.netology.project.timing;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.qameta.allure.Allure;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class PhaseTimingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PhaseTimingExtension.class);
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+        PhaseTimer.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Map<Phase, Long> phases = PhaseTimer.stop();
+        long total = System.nanoTime() - context.getStore(NAMESPACE).remove("start", Long.class);
+        long measured = 0;
+        Map<Phase, Double> phaseMillis = new EnumMap<>(Phase.class);
+        for (Map.Entry<Phase, Long> entry : phases.entrySet()) {
+            phaseMillis.put(entry.getKey(), toMillis(entry.getValue()));
+            measured += entry.getValue();
+        }
+        TestTiming timing = new TestTiming(
+                context.getRequiredTestClass().getSimpleName(),
+                context.getDisplayName(),
+                context.getUniqueId(),
+                toMillis(total),
+                toMillis(Math.max(0, total - measured)),
+                phaseMillis);
+
+        Allure.addAttachment("Phase timings", "application/json", gson.toJson(timing), ".json");
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(RunTimings.class, key -> new RunTimings(), RunTimings.class)
+                .timings.add(timing);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class RunTimings implements ExtensionContext.Store.CloseableResource {
+        private final ConcurrentLinkedQueue<TestTiming> timings = new ConcurrentLinkedQueue<>();
+
+        @Override
+        @SneakyThrows
+        public void close() {
+            List<TestTiming> tests = new ArrayList<>(timings);
+            Map<String, Double> totals = new LinkedHashMap<>();
+            double total = 0;
+            for (TestTiming timing : tests) {
+                timing.getPhaseMillis().forEach((phase, millis) -> totals.merge(phase.name(), millis, Double::sum));
+                totals.merge("OTHER", timing.getOtherMillis(), Double::sum);
+                total += timing.getTotalMillis();
+            }
+            String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"))
+                    + "-" + System.getProperty("fork.id", "pid" + ProcessHandle.current().pid());
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("runId", runId);
+            run.put("tests", tests.size());
+            run.put("totalMillis", total);
+            run.put("phaseTotalsMillis", totals);
+            run.put("timings", tests);
+
+            Path dir = Path.of(System.getProperty("timing.output", "build/phase-timings"));
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("run-" + runId + ".json"), gson.toJson(run), StandardCharsets.UTF_8);
+        }
+    }
+}
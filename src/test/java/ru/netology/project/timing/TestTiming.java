@@ -0,0 +1,15 @@
+package ru.netology.project.timing;
+
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+public class TestTiming {
+    String testClass;
+    String displayName;
+    String uniqueId;
+    double totalMillis;
+    double otherMillis;
+    Map<Phase, Double> phaseMillis;
+}
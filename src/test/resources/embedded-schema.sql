@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS payment_entity (
+    id             VARCHAR(255) PRIMARY KEY,
+    amount         INTEGER NOT NULL,
+    created        TIMESTAMP,
+    status         VARCHAR(255),
+    transaction_id VARCHAR(255)
+);
+CREATE TABLE IF NOT EXISTS credit_request_entity (
+    id      VARCHAR(255) PRIMARY KEY,
+    bank_id VARCHAR(255),
+    created TIMESTAMP,
+    status  VARCHAR(255)
+);
+CREATE TABLE IF NOT EXISTS order_entity (
+    id         VARCHAR(255) PRIMARY KEY,
+    created    TIMESTAMP,
+    credit_id  VARCHAR(255),
+    payment_id VARCHAR(255)
+);
+CREATE INDEX IF NOT EXISTS payment_entity_created ON payment_entity (created);
+CREATE INDEX IF NOT EXISTS credit_request_entity_created ON credit_request_entity (created);
+CREATE INDEX IF NOT EXISTS order_entity_created ON order_entity (created);